@@ -0,0 +1,22 @@
+plugins {
+    java
+    application
+}
+
+evaluationDependsOn(":")
+
+// the root project only produces a bootJar, so benchmark the app classes straight from its main source set
+val appMain = project(":").the<SourceSetContainer>()["main"]
+
+dependencies {
+    implementation(files(appMain.runtimeClasspath))
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+}
+
+// ./gradlew :benchmark:run --args="hot-user-charge --threads=16 --duration=10"
+application {
+    mainClass.set("io.hhplus.tdd.benchmark.PointBenchmark")
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.repository.ConcurrentPointHistoryRepository;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+
+/**
+ * 스레드 수를 1, 2, 4 ... 로 늘려가며 ConcurrentPointHistoryRepository 의 내역 append 처리량을 잰다.
+ * - 스레드마다 자기 유저들에만 쌓아서, 유저 락 경합 없이 id 발급만 공유할 때 얼마나 늘어나는지 본다.
+ * - 스레드 수마다 새 저장소에 같은 양을 한 번 쌓아 JIT 를 데운 뒤 측정한다.
+ */
+class HistoryAppendBenchmark {
+
+    private static final int USERS_PER_THREAD = 64;
+    private static final long AMOUNT = 100L;
+
+    static void run(Map<String, String> options) throws InterruptedException {
+        int insertsPerThread = PointBenchmark.intOption(options, "inserts", 200_000);
+        int maxThreads = PointBenchmark.intOption(options, "max-threads",
+                Math.min(32, Runtime.getRuntime().availableProcessors()));
+
+        System.out.printf("history-append inserts=%d per thread%n", insertsPerThread);
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            measure(threads, insertsPerThread);
+            double throughput = measure(threads, insertsPerThread);
+            if (threads == 1) {
+                single = throughput;
+            }
+            System.out.printf("  threads=%-3d %12.1f appends/s %6.2fx%n", threads, throughput, throughput / single);
+        }
+    }
+
+    private static double measure(int threads, int insertsPerThread) throws InterruptedException {
+        ConcurrentPointHistoryRepository repository = new ConcurrentPointHistoryRepository(new KnownUserFilter(1_000_000, 0.01));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            long firstUser = (long) t * USERS_PER_THREAD;
+            executorService.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int i = 0; i < insertsPerThread; i++) {
+                        repository.insert(firstUser + i % USERS_PER_THREAD, AMOUNT, CHARGE, i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        long startNanos = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        long expected = (long) threads * insertsPerThread;
+        if (repository.selectAll().size() != expected) {
+            throw new IllegalStateException("쌓인 내역 수가 다릅니다. expected=%d".formatted(expected));
+        }
+        return (double) expected / elapsedNanos * TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.common.FanOutHelper;
+import io.hhplus.tdd.point.common.HotKeyDetector;
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.common.PointVersionMap;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.service.PointService;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 유저에 충전이 몰릴 때, 매번 유저 락을 잡는 경우와 hot 유저로 누적하는 경우의 충전 처리량을 비교한다.
+ * - 실제 UserPointTable / PointHistoryTable (throttle 포함) 을 쓰는 저장소로 측정한다.
+ * - 누적하는 경우는 서비스의 스케줄과 같은 200ms 간격으로 flush 하고, 끝난 뒤 잔액이 충전 합과 같은지 확인한다.
+ */
+class HotUserChargeBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final long AMOUNT = 10L;
+    private static final long FLUSH_INTERVAL_MILLIS = 200L;
+    // HotKeyDetector 의 hot 기준(64)을 넘기기 위해 측정 전에 미리 기록해둔다.
+    private static final int HOT_WARM_UP_RECORDS = 128;
+
+    static void run(Map<String, String> options) throws InterruptedException {
+        int threads = PointBenchmark.intOption(options, "threads", 16);
+        int durationSeconds = PointBenchmark.intOption(options, "duration", 10);
+        int warmupSeconds = PointBenchmark.intOption(options, "warmup", 2);
+
+        double locked = measure(false, threads, warmupSeconds, durationSeconds);
+        double accumulated = measure(true, threads, warmupSeconds, durationSeconds);
+        System.out.printf("hot-user-charge threads=%d duration=%ds%n", threads, durationSeconds);
+        System.out.printf("  locked      %10.1f charges/s%n", locked);
+        System.out.printf("  accumulated %10.1f charges/s%n", accumulated);
+        System.out.printf("  speed-up    %10.1fx%n", accumulated / locked);
+    }
+
+    private static double measure(boolean hot, int threads, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        HotKeyDetector hotKeyDetector = hot ? new HotKeyDetector() : new NeverHotKeyDetector();
+        KnownUserFilter knownUserFilter = new KnownUserFilter(1_000, 0.01);
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), knownUserFilter);
+        PointService pointService = new PointService(
+                userPointRepository,
+                new PointHistoryRepositoryImpl(new PointHistoryTable(), knownUserFilter),
+                new LockHelper(),
+                new SingleFlightHelper(),
+                hotKeyDetector,
+                new ChargeAccumulator(),
+                new PointChangeFeed(),
+                new PointVersionMap(),
+                new FanOutHelper(1, 1_000));
+        for (int i = 0; i < HOT_WARM_UP_RECORDS; i++) {
+            hotKeyDetector.recordAndCheck(USER_ID);
+        }
+
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(pointService::flushAccumulatedCharges, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        LongAdder total = new LongAdder();
+        LongAdder measured = new LongAdder();
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                while (System.nanoTime() < end) {
+                    pointService.charge(USER_ID, AMOUNT);
+                    total.increment();
+                    // 끝난 시각이 측정 구간 안인 충전만 센다.
+                    long now = System.nanoTime();
+                    if (now >= warmupEnd && now < end) {
+                        measured.increment();
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(warmupSeconds + durationSeconds + 60L, TimeUnit.SECONDS);
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        pointService.flushAccumulatedCharges();
+
+        long expected = total.sum() * AMOUNT;
+        long actual = userPointRepository.selectById(USER_ID).point();
+        if (actual != expected) {
+            throw new IllegalStateException("잔액이 충전 합과 다릅니다. expected=%d, actual=%d".formatted(expected, actual));
+        }
+        return (double) measured.sum() / durationSeconds;
+    }
+
+    // 항상 락을 잡는 기존 충전 경로를 측정하기 위해 hot 판정을 끈다.
+    private static final class NeverHotKeyDetector extends HotKeyDetector {
+        @Override
+        public boolean recordAndCheck(long id) {
+            return false;
+        }
+    }
+}
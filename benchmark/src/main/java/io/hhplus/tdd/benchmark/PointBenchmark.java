@@ -0,0 +1,46 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 단위 테스트에 두기에는 시간과 코어 수에 따라 결과가 달라지는 측정들
+ * 첫 인자로 측정 이름을, 나머지는 --key=value 형식의 옵션으로 받는다.
+ *
+ * hot-user-charge  --threads=16 --duration=10 --warmup=2
+ * history-append   --inserts=200000 --max-threads=32
+ * single-flight    --threads=32 --users=1000 --zipf-exponent=1.1 --duration=10
+ */
+public class PointBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: PointBenchmark <hot-user-charge|history-append|single-flight> [--key=value ...]");
+            System.exit(1);
+        }
+        Map<String, String> options = parseOptions(Arrays.copyOfRange(args, 1, args.length));
+        switch (args[0]) {
+            case "hot-user-charge" -> HotUserChargeBenchmark.run(options);
+            case "history-append" -> HistoryAppendBenchmark.run(options);
+            case "single-flight" -> SingleFlightBenchmark.run(options);
+            default -> throw new IllegalArgumentException("지원하지 않는 측정입니다: " + args[0]);
+        }
+    }
+
+    static int intOption(Map<String, String> options, String key, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(key, String.valueOf(defaultValue)));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Zipf 분포로 몰리는 포인트 조회에서, 매번 테이블을 읽는 경우와 SingleFlightHelper 로 같은 유저의 조회를 합치는 경우를 비교한다.
+ * - 실제 UserPointTable (throttle 포함) 을 쓰는 저장소로 측정하고, 요청당 테이블 호출 수와 처리량을 출력한다.
+ * - 모든 유저를 미리 KnownUserFilter 에 넣어, 조회가 필터에서 끝나지 않고 테이블까지 가게 한다.
+ */
+class SingleFlightBenchmark {
+
+    static void run(Map<String, String> options) throws InterruptedException {
+        int threads = PointBenchmark.intOption(options, "threads", 32);
+        int users = PointBenchmark.intOption(options, "users", 1_000);
+        double exponent = Double.parseDouble(options.getOrDefault("zipf-exponent", "1.1"));
+        int durationSeconds = PointBenchmark.intOption(options, "duration", 10);
+        double[] cdf = zipfCdf(users, exponent);
+
+        System.out.printf("single-flight threads=%d users=%d zipf-exponent=%s duration=%ds%n", threads, users, exponent, durationSeconds);
+        measure(false, threads, users, cdf, durationSeconds);
+        measure(true, threads, users, cdf, durationSeconds);
+    }
+
+    private static void measure(boolean coalesce, int threads, int users, double[] cdf, int durationSeconds) throws InterruptedException {
+        KnownUserFilter knownUserFilter = new KnownUserFilter(users, 0.01);
+        for (long id = 1; id <= users; id++) {
+            knownUserFilter.add(id);
+        }
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), knownUserFilter);
+        SingleFlightHelper singleFlightHelper = new SingleFlightHelper();
+
+        LongAdder requests = new LongAdder();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                while (System.nanoTime() < end) {
+                    long id = sample(cdf);
+                    if (coalesce) {
+                        singleFlightHelper.execute(id, () -> userPointRepository.selectById(id));
+                    } else {
+                        userPointRepository.selectById(id);
+                    }
+                    requests.increment();
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+
+        long requestCount = requests.sum();
+        long tableCalls = coalesce ? singleFlightHelper.getExecutionCount() : requestCount;
+        System.out.printf("  %-13s requests=%-8d tableCalls=%-8d tableCalls/request=%.3f %10.1f reads/s%n",
+                coalesce ? "single-flight" : "direct", requestCount, tableCalls,
+                (double) tableCalls / requestCount, (double) requestCount / durationSeconds);
+    }
+
+    // 누적 분포를 미리 계산해두고 이진 탐색으로 뽑는다. 1번 유저에 가장 많이 몰린다.
+    private static double[] zipfCdf(int users, double exponent) {
+        double[] cdf = new double[users];
+        double sum = 0;
+        for (int i = 0; i < users; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static long sample(double[] cdf) {
+        int index = Arrays.binarySearch(cdf, ThreadLocalRandom.current().nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+}
@@ -23,6 +23,7 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -50,3 +51,69 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+
+// always-on flight recording: ./gradlew bootRun -PjfrRecording
+// - keeps the last 6h (at most 256MB) on disk with jfr/point.jfc and dumps it to build/jfr/point.jfr on exit
+// - read it with: ./gradlew analyzeJfr -PjfrFile=build/jfr/point.jfr [-PjfrTop=10]
+if (providers.gradleProperty("jfrRecording").isPresent) {
+    tasks.named<JavaExec>("bootRun") {
+        val recording = layout.buildDirectory.file("jfr/point.jfr").get().asFile
+        doFirst { recording.parentFile.mkdirs() }
+        jvmArgs(
+            "-XX:StartFlightRecording=name=point,settings=${file("jfr/point.jfc")},disk=true,maxage=6h,maxsize=256m," +
+                "dumponexit=true,filename=$recording",
+        )
+    }
+}
+
+tasks.register<JavaExec>("analyzeJfr") {
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.jfr.PointJfrAnalyzer")
+    args(
+        providers.gradleProperty("jfrFile").getOrElse("build/jfr/point.jfr"),
+        providers.gradleProperty("jfrTop").getOrElse("10"),
+    )
+}
+
+// fast startup profile: ./gradlew cdsArchive -PoptimizedStartup
+// - applies Spring AOT processing; bean conditions (@ConditionalOnProperty) are fixed with the build-time properties
+// - lays the app out as a plain jar plus lib/ so the JVM can archive every class, then records an AppCDS archive
+// - run with: java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar build/optimized/app.jar
+if (providers.gradleProperty("optimizedStartup").isPresent) {
+    apply(plugin = "org.springframework.boot.aot")
+
+    val optimizedDir = layout.buildDirectory.dir("optimized")
+
+    val optimizedLibs = tasks.register<Sync>("optimizedLibs") {
+        from(configurations.runtimeClasspath)
+        into(optimizedDir.map { it.dir("lib") })
+    }
+
+    val optimizedJar = tasks.register<Jar>("optimizedJar") {
+        dependsOn(optimizedLibs)
+        archiveFileName.set("app.jar")
+        destinationDirectory.set(optimizedDir)
+        from(sourceSets.main.get().output)
+        from(sourceSets["aot"].output)
+        duplicatesStrategy = DuplicatesStrategy.EXCLUDE
+        doFirst {
+            manifest.attributes(
+                "Main-Class" to "io.hhplus.tdd.TddApplication",
+                "Class-Path" to configurations.runtimeClasspath.get().joinToString(" ") { "lib/${it.name}" },
+            )
+        }
+    }
+
+    // training run: refresh the context once, exit, and dump the loaded classes into app.jsa
+    tasks.register<Exec>("cdsArchive") {
+        dependsOn(optimizedJar)
+        workingDir(optimizedDir)
+        commandLine(
+            "java",
+            "-XX:ArchiveClassesAtExit=app.jsa",
+            "-Dspring.aot.enabled=true",
+            "-Dspring.context.exit=onRefresh",
+            "-jar", "app.jar",
+        )
+    }
+}
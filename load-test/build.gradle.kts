@@ -0,0 +1,16 @@
+plugins {
+    java
+    application
+}
+
+dependencies {
+    implementation(libs.hdrhistogram)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+}
+
+application {
+    mainClass.set("io.hhplus.tdd.loadtest.PointLoadTest")
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정, --key=value 형식의 인자로 받는다.
+ *
+ * --base-url=http://localhost:8080  --rate=200  --duration=60  --warmup=10
+ * --users=10000  --distribution=uniform|zipf  --zipf-exponent=1.1
+ * --mix=20:10:70 (charge:use:read)  --label=lock-v1  --report=build/load-test/report.json
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        int rate,
+        int durationSeconds,
+        int warmupSeconds,
+        int users,
+        String distribution,
+        double zipfExponent,
+        int chargeWeight,
+        int useWeight,
+        int readWeight,
+        String label,
+        Path report
+) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String[] mix = options.getOrDefault("mix", "20:10:70").split(":");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("mix 는 charge:use:read 형식이어야 합니다.");
+        }
+        return new LoadTestConfig(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                Integer.parseInt(options.getOrDefault("rate", "200")),
+                Integer.parseInt(options.getOrDefault("duration", "60")),
+                Integer.parseInt(options.getOrDefault("warmup", "10")),
+                Integer.parseInt(options.getOrDefault("users", "10000")),
+                options.getOrDefault("distribution", "uniform"),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.1")),
+                Integer.parseInt(mix[0]),
+                Integer.parseInt(mix[1]),
+                Integer.parseInt(mix[2]),
+                options.getOrDefault("label", "default"),
+                Path.of(options.getOrDefault("report", "build/load-test/report.json"))
+        );
+    }
+
+    public UserIdSampler userIdSampler() {
+        return switch (distribution) {
+            case "uniform" -> UserIdSampler.uniform(users);
+            case "zipf" -> UserIdSampler.zipf(users, zipfExponent);
+            default -> throw new IllegalArgumentException("지원하지 않는 분포입니다: " + distribution);
+        };
+    }
+}
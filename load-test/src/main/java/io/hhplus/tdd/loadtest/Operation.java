@@ -0,0 +1,5 @@
+package io.hhplus.tdd.loadtest;
+
+public enum Operation {
+    CHARGE, USE, READ
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연 시간 기록
+ * - latency : 의도한 시작 시각부터 응답까지 (coordinated omission 보정)
+ * - serviceTime : 실제로 보낸 시각부터 응답까지 (보정 전, 비교용)
+ */
+public class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos, long serviceTimeNanos, int status) {
+        latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        serviceTime.recordValue(Math.min(serviceTimeNanos, HIGHEST_TRACKABLE_NANOS));
+        if (status >= 500) {
+            errors.increment();
+        } else if (status >= 400) {
+            rejected.increment();
+        }
+    }
+
+    public void recordFailure(long latencyNanos) {
+        latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        errors.increment();
+    }
+
+    public long count() {
+        return latency.getTotalCount();
+    }
+
+    public void addTo(OperationStats total) {
+        total.latency.add(latency);
+        total.serviceTime.add(serviceTime);
+        total.rejected.add(rejected.sum());
+        total.errors.add(errors.sum());
+    }
+
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"count\":%d,\"rejected\":%d,\"errors\":%d,\"latencyMs\":%s,\"serviceTimeMs\":%s}",
+                count(), rejected.sum(), errors.sum(), percentiles(latency), percentiles(serviceTime));
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT, "count=%d rejected=%d errors=%d p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms",
+                count(), rejected.sum(), errors.sum(),
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)), millis(latency.getMaxValue()));
+    }
+
+    private static String percentiles(Histogram histogram) {
+        return String.format(Locale.ROOT, "{\"p50\":%.3f,\"p99\":%.3f,\"p999\":%.3f,\"max\":%.3f,\"mean\":%.3f}",
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()),
+                histogram.getMean() / 1_000_000.0);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,176 @@
+package io.hhplus.tdd.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * PointController 를 HTTP 로 호출하는 open-loop 부하 생성기
+ * - 요청은 응답을 기다리지 않고 목표 rate 에 맞춘 시각마다 보낸다.
+ * - 지연 시간은 실제로 보낸 시각이 아니라 보냈어야 하는 시각부터 재서, 서버가 밀릴 때 생기는 coordinated omission 을 보정한다.
+ * - 결과는 --report 경로에 JSON 으로 남기며, --label 로 동시성 모드 등을 구분해 릴리즈끼리 비교한다.
+ */
+public class PointLoadTest {
+
+    private static final long AMOUNT = 100L;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final UserIdSampler userIdSampler;
+    private final HttpClient httpClient;
+    private final ExecutorService executorService;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    // 응답을 기다리는 요청 수. 보내는 동안은 생성기 몫으로 1 을 더 들고 있어, 다 보내기 전에는 0 이 되지 않는다.
+    // Phaser 는 동시에 65,535 건까지만 등록할 수 있어, 높은 rate 에서 서버가 밀리면 넘칠 수 있으므로 직접 센다.
+    private final AtomicLong inFlight = new AtomicLong(1);
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    public PointLoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.userIdSampler = config.userIdSampler();
+        this.executorService = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executorService)
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        new PointLoadTest(config).run();
+    }
+
+    public void run() throws IOException, InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long warmupNanos = TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long totalNanos = warmupNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart - start >= totalNanos) {
+                break;
+            }
+            sleepUntil(intendedStart);
+            boolean measured = intendedStart - start >= warmupNanos;
+            send(nextOperation(), userIdSampler.next(), intendedStart, measured);
+        }
+        complete();
+        if (!completed.await(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.err.println("응답을 받지 못한 요청이 남아 있습니다: " + inFlight.get());
+        }
+        executorService.shutdownNow();
+
+        writeReport(startedAt);
+    }
+
+    private void send(Operation operation, long userId, long intendedStart, boolean measured) {
+        inFlight.incrementAndGet();
+        long sentAt = System.nanoTime();
+        httpClient.sendAsync(request(operation, userId), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    long now = System.nanoTime();
+                    if (measured) {
+                        OperationStats operationStats = stats.get(operation);
+                        if (e != null) {
+                            operationStats.recordFailure(now - intendedStart);
+                        } else {
+                            operationStats.record(now - intendedStart, now - sentAt, response.statusCode());
+                        }
+                    }
+                    complete();
+                });
+    }
+
+    private void complete() {
+        if (inFlight.decrementAndGet() == 0) {
+            completed.countDown();
+        }
+    }
+
+    private HttpRequest request(Operation operation, long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (operation) {
+            case CHARGE -> builder.uri(uri("/point/%d/charge".formatted(userId)))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(AMOUNT)))
+                    .build();
+            case USE -> builder.uri(uri("/point/%d/use".formatted(userId)))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(AMOUNT)))
+                    .build();
+            case READ -> builder.uri(uri("/point/%d".formatted(userId))).GET().build();
+        };
+    }
+
+    private Operation nextOperation() {
+        int total = config.chargeWeight() + config.useWeight() + config.readWeight();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        if (pick < config.chargeWeight()) {
+            return Operation.CHARGE;
+        }
+        if (pick < config.chargeWeight() + config.useWeight()) {
+            return Operation.USE;
+        }
+        return Operation.READ;
+    }
+
+    private URI uri(String path) {
+        return URI.create(config.baseUrl() + path);
+    }
+
+    private void writeReport(Instant startedAt) throws IOException {
+        OperationStats total = new OperationStats();
+        StringBuilder operations = new StringBuilder();
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            entry.getValue().addTo(total);
+            if (!operations.isEmpty()) {
+                operations.append(',');
+            }
+            operations.append('"').append(entry.getKey().name().toLowerCase(Locale.ROOT)).append("\":").append(entry.getValue().toJson());
+            System.out.printf("%-6s %s%n", entry.getKey(), entry.getValue().summary());
+        }
+        System.out.printf("%-6s %s%n", "TOTAL", total.summary());
+
+        String json = String.format(Locale.ROOT,
+                "{\"label\":\"%s\",\"startedAt\":\"%s\",\"config\":{\"baseUrl\":\"%s\",\"rate\":%d,\"durationSeconds\":%d,"
+                        + "\"warmupSeconds\":%d,\"users\":%d,\"distribution\":\"%s\",\"zipfExponent\":%s,\"mix\":\"%d:%d:%d\"},"
+                        + "\"total\":%s,\"operations\":{%s}}%n",
+                config.label(), startedAt, config.baseUrl(), config.rate(), config.durationSeconds(),
+                config.warmupSeconds(), config.users(), config.distribution(), config.zipfExponent(),
+                config.chargeWeight(), config.useWeight(), config.readWeight(),
+                total.toJson(), operations);
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        Files.writeString(config.report(), json);
+        System.out.println("report: " + config.report().toAbsolutePath());
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청할 유저 id 를 뽑는다. id 는 1 부터 users 까지.
+ */
+public interface UserIdSampler {
+
+    long next();
+
+    static UserIdSampler uniform(int users) {
+        return () -> ThreadLocalRandom.current().nextLong(1, users + 1L);
+    }
+
+    // 누적 분포를 미리 계산해두고 이진 탐색으로 뽑는다. 1번 유저에 가장 많이 몰린다.
+    static UserIdSampler zipf(int users, double exponent) {
+        double[] cdf = new double[users];
+        double sum = 0;
+        for (int i = 0; i < users; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cdf[i] /= sum;
+        }
+        return () -> {
+            int index = Arrays.binarySearch(cdf, ThreadLocalRandom.current().nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1L;
+        };
+    }
+}
@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# 기본 빌드(bootJar)와 빠른 기동 빌드(AOT + AppCDS)의 기동 시간과 메모리를 비교한다. (Linux 전용)
+# - time-to-first-request: JVM 을 띄운 시각부터 GET /point/{id} 가 처음 200 을 응답할 때까지
+# - RSS: 첫 응답 직후 /proc/<pid>/status 의 VmRSS
+#
+# 사용법: scripts/startup-benchmark.sh [runs] [port]
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${2:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TIMEOUT_SECONDS=60
+
+cd "$ROOT"
+
+echo "==> building baseline (bootJar)"
+./gradlew -q bootJar
+BASELINE_JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+BASELINE_COPY="$(mktemp -d)/baseline.jar"
+# 빠른 기동 빌드가 bootJar 를 다시 만들 수 있으므로 따로 복사해 둔다.
+cp "$BASELINE_JAR" "$BASELINE_COPY"
+
+echo "==> building optimized (AOT + AppCDS)"
+./gradlew -q cdsArchive -PoptimizedStartup
+OPTIMIZED_DIR="$ROOT/build/optimized"
+
+now_millis() {
+    date +%s%3N
+}
+
+# $1: 작업 디렉터리, 나머지: java 실행 인자. "<ttfr ms> <rss kB>" 를 출력한다.
+measure_once() {
+    local workdir="$1"
+    shift
+    local start pid elapsed rss
+    start="$(now_millis)"
+    (cd "$workdir" && exec java "$@" --server.port="$PORT" >/dev/null 2>&1) &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/point/1"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited before serving a request" >&2
+            exit 1
+        fi
+        if (( $(now_millis) - start > TIMEOUT_SECONDS * 1000 )); then
+            kill "$pid"
+            echo "application did not respond within ${TIMEOUT_SECONDS}s" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_millis) - start ))
+    rss="$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+# $1: 이름, $2: 작업 디렉터리, 나머지: java 실행 인자
+benchmark() {
+    local name="$1" workdir="$2"
+    shift 2
+    local results=() result
+    for ((i = 1; i <= RUNS; i++)); do
+        result="$(measure_once "$workdir" "$@")"
+        results+=("$result")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v name="$name" '
+        { ttfr[NR] = $1; rss[NR] = $2; rssSum += $2 }
+        END {
+            median = (NR % 2) ? ttfr[(NR + 1) / 2] : (ttfr[NR / 2] + ttfr[NR / 2 + 1]) / 2
+            printf "%-10s runs=%d  ttfr min=%dms median=%dms max=%dms  rss avg=%.1fMB\n",
+                name, NR, ttfr[1], median, ttfr[NR], rssSum / NR / 1024
+        }'
+}
+
+echo "==> measuring ($RUNS runs each, port $PORT)"
+benchmark baseline "$ROOT" -jar "$BASELINE_COPY"
+benchmark optimized "$OPTIMIZED_DIR" -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar
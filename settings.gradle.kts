@@ -12,4 +12,8 @@ dependencyResolutionManagement {
     }
 }
 
-rootProject.name = "hhplus-tdd-jvm"
\ No newline at end of file
+rootProject.name = "hhplus-tdd-jvm"
+
+include("load-test")
+include("stress-test")
+include("benchmark")
\ No newline at end of file
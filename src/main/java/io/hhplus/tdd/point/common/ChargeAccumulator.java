@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.common;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * hot 유저의 충전 금액을 락 없이 누적해두는 저장소
+ * - 충전은 유저별 LongAdder 에 더하기만 하고, 실제 반영은 유저 락 안에서 누적분을 한 번에 테이블에 쓴다.
+ * - 누적 중인 유저의 포인트는 테이블이 아니라 마지막 반영 포인트 + 누적분으로 보여준다.
+ *   반영은 마지막 반영 포인트를 바꾸고 누적분을 빼는 일을 한 번에 보이게 하므로, 반영 도중에도 누적분이 두 번 더해지지 않는다.
+ * - 누적을 시작한 유저는 제거하지 않는다. (hot 유저는 소수이고, 제거와 누적이 겹치면 충전이 유실될 수 있기 때문)
+ */
+@Component
+public class ChargeAccumulator {
+
+    private final Map<Long, Cell> cellMap;
+
+    public ChargeAccumulator() {
+        this.cellMap = new ConcurrentHashMap<>();
+    }
+
+    public boolean isAccumulating(long id) {
+        return cellMap.containsKey(id);
+    }
+
+    // 마지막으로 반영된 포인트를 기준으로 누적을 시작. 반드시 해당 유저의 락 안에서 호출해야 한다.
+    public void start(UserPoint userPoint) {
+        cellMap.putIfAbsent(userPoint.id(), new Cell(userPoint));
+    }
+
+    // 충전 금액을 누적하고, 누적분을 포함한 예상 포인트를 반환
+    public UserPoint accumulate(long id, long amount) {
+        Cell cell = cellMap.get(id);
+        cell.pending.add(amount);
+        return read(id, cell, true);
+    }
+
+    // 누적 중인 유저의 예상 포인트, 누적 중이 아니면 null
+    public UserPoint current(long id) {
+        Cell cell = find(id);
+        return cell == null ? null : read(id, cell, false);
+    }
+
+    // 아직 반영되지 않은 누적 금액
+    public long pending(long id) {
+        Cell cell = find(id);
+        return cell == null ? 0L : cell.pending.sum();
+    }
+
+    // 테이블에 반영한 포인트를 기준으로 삼고, 반영한 금액만큼 누적분에서 뺀다. 그 사이 더해진 충전은 누적분에 남는다.
+    // 반드시 해당 유저의 락 안에서, 테이블에 쓴 직후에 호출해야 한다.
+    public void settle(UserPoint applied, long amount) {
+        Cell cell = find(applied.id());
+        if (cell == null) {
+            return;
+        }
+        // 락 안에서만 바꾸므로 쓰는 스레드는 하나다. 홀수인 동안 읽는 쪽은 기다렸다가 다시 읽는다.
+        long sequence = cell.sequence;
+        cell.sequence = sequence + 1;
+        cell.pending.add(-amount);
+        cell.applied = applied;
+        cell.sequence = sequence + 2;
+    }
+
+    // 락 안에서 반영이 끝난 포인트를 예상 포인트 계산의 기준으로 삼는다.
+    public void commit(UserPoint userPoint) {
+        Cell cell = find(userPoint.id());
+        if (cell != null) {
+            cell.applied = userPoint;
+        }
+    }
+
+    public Set<Long> accumulatingIds() {
+        return cellMap.keySet();
+    }
+
+    // hot 유저가 없는 대부분의 경우 id 박싱 없이 바로 반환한다.
+    private Cell find(long id) {
+        if (cellMap.isEmpty()) {
+            return null;
+        }
+        return cellMap.get(id);
+    }
+
+    // 반영 중이 아닐 때 읽은 기준 포인트와 누적분만 더한다. 충전 응답이면 방금 받은 시각을, 아니면 마지막 반영 시각을 쓴다.
+    private UserPoint read(long id, Cell cell, boolean charged) {
+        while (true) {
+            long sequence = cell.sequence;
+            if ((sequence & 1) == 0) {
+                UserPoint applied = cell.applied;
+                long pending = cell.pending.sum();
+                if (cell.sequence == sequence) {
+                    if (pending == 0 && !charged) {
+                        return applied;
+                    }
+                    long updateMillis = charged ? System.currentTimeMillis() : applied.updateMillis();
+                    return new UserPoint(id, applied.point() + pending, updateMillis);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class Cell {
+        private final LongAdder pending = new LongAdder();
+        // 반영 중이면 홀수
+        private volatile long sequence;
+        private volatile UserPoint applied;
+
+        private Cell(UserPoint applied) {
+            this.applied = applied;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point.common;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정한 응답 지연으로 동시 처리 한도를 조절하는 limiter (gradient 방식)
+ * - 최근 구간의 평균 지연(short)과 오래 누적한 평균 지연(long)을 비교해
+ *   short 가 long 보다 커지면 (= 큐잉이 생기면) 한도를 줄이고, 비슷하면 조금씩 늘린다.
+ * - 한도를 넘는 요청은 기다리지 않고 바로 거절한다.
+ * - 한도의 절반도 쓰지 않는 구간에서는 지연으로 한도를 늘리지 않는다. (부하가 없어서 지연이 낮은 것이므로)
+ *   대신 지연이 정상 범위면 줄었던 한도를 처음 한도까지 조금씩 되돌려, 과부하가 지나간 뒤 한도가 줄어든 채로 남지 않게 한다.
+ * - 한도보다 많은 자리를 요청하면 한도만큼만 차지하게 해, 한도가 줄어도 큰 묶음 요청이 한가할 때는 들어올 수 있게 한다.
+ */
+public class ConcurrencyLimiter {
+
+    // 한 번 한도를 갱신할 때 모으는 응답 수
+    private static final int WINDOW_SAMPLES = 20;
+    // short 지연이 long 지연의 1.5배까지는 정상 범위로 본다.
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    private static final double SMOOTHING = 0.2;
+    // 지연이 늘지 않을 때 한 번에 늘려보는 여유 한도
+    private static final int QUEUE_SIZE = 4;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private volatile int limit;
+
+    // 아래 값은 synchronized 안에서만 다룬다.
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    // 한도 안이면 자리를 차지하고 true, 넘으면 바로 false
+    public boolean tryAcquire() {
+        return tryAcquire(1) > 0;
+    }
+
+    // permits 만큼 (한도보다 크면 한도만큼) 자리를 차지하고 차지한 수를 돌려준다. 자리가 모자라면 0
+    // 돌려준 수만큼 release 해야 한다.
+    public int tryAcquire(int permits) {
+        while (true) {
+            int current = inFlight.get();
+            int acquiring = Math.min(permits, limit);
+            if (current + acquiring > limit) {
+                rejectedCount.increment();
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + acquiring)) {
+                return acquiring;
+            }
+        }
+    }
+
+    // 차지한 자리를 돌려주고 처리에 걸린 시간을 반영한다.
+    public void release(long rttNanos) {
+        release(1, rttNanos);
+    }
+
+    public void release(int permits, long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndAdd(-permits);
+        synchronized (this) {
+            windowRttSum += rttNanos;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+            if (++windowSamples >= WINDOW_SAMPLES) {
+                updateLimit(windowRttSum / (double) windowSamples, windowMaxInFlight);
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private void updateLimit(double shortRttNanos, int maxInFlight) {
+        if (shortRttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+        } else {
+            longRttNanos += (shortRttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        }
+        // 부하가 빠져 지연이 크게 줄었다면 long 지연도 빨리 따라 내려오게 한다.
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+        if (maxInFlight < estimatedLimit / 2) {
+            if (estimatedLimit < initialLimit && shortRttNanos <= longRttNanos * TOLERANCE) {
+                estimatedLimit = Math.min(initialLimit, estimatedLimit + QUEUE_SIZE);
+                limit = (int) estimatedLimit;
+            }
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = estimatedLimit * gradient + QUEUE_SIZE;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
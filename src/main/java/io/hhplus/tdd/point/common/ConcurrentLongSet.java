@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 을 박싱하지 않고 담는 동시성 set (open addressing)
+ * - 이미 담긴 값의 add / contains 는 락 없이 배열만 읽고, 할당하지 않는다.
+ * - 새 값을 넣거나 배열을 늘릴 때만 synchronized 로 한 번에 한 스레드가 쓴다.
+ *   락 없이 읽는 쪽이 방금 들어온 값을 못 봐도 락 안에서 다시 찾으므로 중복으로 담기지 않는다.
+ * - 0 은 빈 칸 표시로 쓰므로 따로 담는다.
+ */
+public class ConcurrentLongSet {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private volatile AtomicLongArray slots = new AtomicLongArray(INITIAL_CAPACITY);
+    private volatile boolean containsZero;
+    // 아래 값은 synchronized 안에서만 다룬다.
+    private int size;
+
+    // 새로 담았으면 true
+    public boolean add(long value) {
+        if (contains(value)) {
+            return false;
+        }
+        synchronized (this) {
+            if (value == 0) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                return true;
+            }
+            if (!insert(slots, value)) {
+                return false;
+            }
+            // 절반 넘게 차면 두 배로 늘려 탐색 길이를 짧게 유지한다.
+            if (++size * 2 > slots.length()) {
+                AtomicLongArray grown = new AtomicLongArray(slots.length() * 2);
+                for (int i = 0; i < slots.length(); i++) {
+                    long slot = slots.get(i);
+                    if (slot != 0) {
+                        insert(grown, slot);
+                    }
+                }
+                slots = grown;
+            }
+            return true;
+        }
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        AtomicLongArray current = slots;
+        int mask = current.length() - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long slot = current.get(i);
+            if (slot == value) {
+                return true;
+            }
+            if (slot == 0) {
+                return false;
+            }
+        }
+    }
+
+    public synchronized List<Long> toList() {
+        List<Long> values = new ArrayList<>(size + 1);
+        if (containsZero) {
+            values.add(0L);
+        }
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            if (slot != 0) {
+                values.add(slot);
+            }
+        }
+        return values;
+    }
+
+    private static boolean insert(AtomicLongArray target, long value) {
+        int mask = target.length() - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long slot = target.get(i);
+            if (slot == value) {
+                return false;
+            }
+            if (slot == 0) {
+                target.set(i, value);
+                return true;
+            }
+        }
+    }
+
+    private static int index(long value, int mask) {
+        return (int) ((value * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.common;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * 여러 id 에 대한 조회를 고정된 수의 스레드로 나눠 실행하고, 마감 시간까지 끝난 결과만 모은다.
+ * - 스레드 수가 전체 동시 조회 수의 상한이므로, 큰 배치 요청이 테이블을 한꺼번에 두드리지 않는다.
+ * - 마감이 지난 뒤에 차례가 온 조회는 실행하지 않고 버린다.
+ *
+ * 기본값은 한 배치를 마감 안에 끝낼 수 있게 잡았다.
+ * 한 배치 최대 100명 / 스레드 32개 = 4번, selectById 는 최대 200ms 이므로 최대 800ms 로 마감 1000ms 안에 끝난다.
+ * 동시에 들어온 배치는 스레드를 나눠 쓰므로, 조회 limiter 가 배치의 유저 수만큼 자리를 차지해 함께 도는 조회 수를 제한한다.
+ */
+@Component
+public class FanOutHelper {
+
+    private final ExecutorService executorService;
+    private final long deadlineNanos;
+
+    public FanOutHelper(@Value("${point.batch.parallelism:32}") int parallelism,
+                        @Value("${point.batch.deadline-ms:1000}") long deadlineMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "point-fan-out-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+    }
+
+    // ids 는 중복이 없어야 한다. 결과는 ids 순서를 따른다.
+    public <T> Result<T> execute(Collection<Long> ids, LongFunction<T> lookup) {
+        long deadline = System.nanoTime() + deadlineNanos;
+        Map<Long, CompletableFuture<T>> futureMap = new LinkedHashMap<>();
+        for (long id : ids) {
+            futureMap.put(id, CompletableFuture.supplyAsync(() -> {
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new CancellationException();
+                }
+                return lookup.apply(id);
+            }, executorService));
+        }
+
+        try {
+            CompletableFuture.allOf(futureMap.values().toArray(CompletableFuture[]::new))
+                    .get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ignored) {
+            // 마감까지 끝난 결과만 아래에서 모은다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<T> results = new ArrayList<>(futureMap.size());
+        List<Long> unresolvedIds = new ArrayList<>();
+        futureMap.forEach((id, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                results.add(future.join());
+            } else {
+                future.cancel(false);
+                unresolvedIds.add(id);
+            }
+        });
+        return new Result<>(results, unresolvedIds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    // 마감 전에 끝난 결과와, 시간 초과나 오류로 끝나지 못한 id
+    public record Result<T>(List<T> results, List<Long> unresolvedIds) {
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.common;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 요청이 몰리는 유저(hot key)를 판별하는 count-min sketch
+ * - 일정 횟수(WINDOW_SIZE)마다 모든 카운터를 절반으로 줄여 최근 요청 위주로 판단한다.
+ * - 추정치는 실제 횟수보다 작지 않으므로, 드물게 일반 유저를 hot 으로 판단할 수는 있어도 그 반대는 없다.
+ */
+@Component
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 1 << 12;
+    private static final long WINDOW_SIZE = 10_000L;
+    private static final int HOT_THRESHOLD = 64;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final AtomicIntegerArray counters;
+    private final AtomicLong recordCount;
+
+    public HotKeyDetector() {
+        this.counters = new AtomicIntegerArray(DEPTH * WIDTH);
+        this.recordCount = new AtomicLong();
+    }
+
+    // 요청을 기록하고, 기록한 결과 hot key 인지 반환
+    public boolean recordAndCheck(long id) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(indexOf(row, id)));
+        }
+        if (recordCount.incrementAndGet() % WINDOW_SIZE == 0) {
+            decay();
+        }
+        return estimate >= HOT_THRESHOLD;
+    }
+
+    public boolean isHot(long id) {
+        return estimate(id) >= HOT_THRESHOLD;
+    }
+
+    public int estimate(long id) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(indexOf(row, id)));
+        }
+        return estimate;
+    }
+
+    private void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private int indexOf(int row, long id) {
+        long hash = (id ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 31;
+        return row * WIDTH + (int) (hash & (WIDTH - 1));
+    }
+}
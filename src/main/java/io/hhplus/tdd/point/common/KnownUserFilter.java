@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * 포인트나 내역이 한 번이라도 기록된 유저 id 를 담는 scalable Bloom filter
+ * - 없다고 답하면 확실히 없는 유저이므로, 테이블을 읽지 않고 빈 결과를 돌려줄 수 있다.
+ * - 있다고 답하는 것은 오탐일 수 있다. (이때는 테이블을 읽을 뿐이다)
+ * - 단계(stage)마다 담을 수 있는 유저 수가 차면 두 배 크기의 단계를 추가하고,
+ *   새 단계의 오탐률은 절반으로 낮춰서 전체 오탐률이 falsePositiveRate 를 넘지 않게 한다.
+ */
+@Component
+public class KnownUserFilter {
+
+    // 단계마다 오탐률을 이 비율만큼 낮춘다. 전체 오탐률은 첫 단계의 1 / (1 - TIGHTENING) 배 이하
+    private static final double TIGHTENING = 0.5;
+    private static final int GROWTH = 2;
+    private static final LongBinaryOperator OR = (left, right) -> left | right;
+
+    private final double firstStageFalsePositiveRate;
+    private volatile Stage[] stages;
+
+    public KnownUserFilter(@Value("${point.known-users.expected-users:1000000}") long expectedUsers,
+                           @Value("${point.known-users.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.firstStageFalsePositiveRate = falsePositiveRate * (1 - TIGHTENING);
+        this.stages = new Stage[]{new Stage(expectedUsers, firstStageFalsePositiveRate)};
+    }
+
+    // 테이블에 쓰기 전에 호출해야, 쓰는 도중의 조회가 없는 유저로 판단하지 않는다.
+    public void add(long id) {
+        long hash = mix(id);
+        Stage[] current = stages;
+        for (Stage stage : current) {
+            if (stage.mightContain(hash)) {
+                return;
+            }
+        }
+        Stage last = current[current.length - 1];
+        last.add(hash);
+        if (last.isFull()) {
+            grow(last);
+        }
+    }
+
+    public boolean mightContain(long id) {
+        long hash = mix(id);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += (long) stage.bits.length() * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stage stage : stages) {
+            size += stage.count.get();
+        }
+        return size;
+    }
+
+    public int stageCount() {
+        return stages.length;
+    }
+
+    private synchronized void grow(Stage full) {
+        Stage[] current = stages;
+        if (current[current.length - 1] != full) {
+            return;
+        }
+        Stage[] grown = new Stage[current.length + 1];
+        System.arraycopy(current, 0, grown, 0, current.length);
+        double falsePositiveRate = firstStageFalsePositiveRate * Math.pow(TIGHTENING, current.length);
+        grown[current.length] = new Stage(full.capacity * GROWTH, falsePositiveRate);
+        stages = grown;
+    }
+
+    // murmur3 의 fmix64: 연속된 id 도 고르게 흩어지게 한다.
+    private static long mix(long id) {
+        long hash = id;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Stage {
+        private final long capacity;
+        private final int hashCount;
+        private final long bitCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        private Stage(long capacity, double falsePositiveRate) {
+            // 최적 비트 수 m = -n ln p / (ln 2)^2, 최적 해시 수 k = (m / n) ln 2
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+            this.capacity = capacity;
+            this.bitCount = (long) words * Long.SIZE;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray(words);
+        }
+
+        // 하나의 64비트 해시를 둘로 나눠 k 개의 위치를 만든다. (Kirsch-Mitzenmacher)
+        private void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                bits.accumulateAndGet((int) (bit >>> 6), 1L << bit, OR);
+            }
+            count.incrementAndGet();
+        }
+
+        private boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isFull() {
+            return count.get() >= capacity;
+        }
+    }
+}
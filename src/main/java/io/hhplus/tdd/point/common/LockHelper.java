@@ -1,45 +1,114 @@
 package io.hhplus.tdd.point.common;
 
+import io.hhplus.tdd.point.jfr.PointLockEvent;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+/**
+ * 유저 id 를 고정된 개수의 락(stripe)에 나눠 담아 유저 단위로 쓰기를 직렬화한다.
+ * 서로 다른 유저도 같은 stripe 에 들어가면 서로를 기다리므로, stripe 수는 동시에 락을 잡는 유저 수보다 충분히 크게 둔다.
+ * - 동시에 락을 잡는 유저는 Tomcat 스레드 수(기본 200)와 쓰기 동시 처리 한도(최대 200)를 넘지 않는다.
+ * - stripe 가 65,536 개면 다른 유저 199 명이 락을 잡고 있을 때 새 요청이 그중 하나와 겹칠 확률은 약 0.3% (199 / 65,536) 이다.
+ * - 락은 미리 모두 만들어두므로 (약 3MB) 락을 찾거나 잡을 때 할당이 없다.
+ */
 @Component
 public class LockHelper {
 
-    private final Map<Long, Lock> lockMap;
+    private static final int STRIPE_BITS = 16;
+
+    private final Lock[] locks;
 
     public LockHelper() {
-        // 동시성 이슈를 막기 위해 부분락을 사용하는 ConcurrentHashMap 을 이용
-        this.lockMap = new ConcurrentHashMap<>();
+        // 유저마다 락을 만들지 않고 id 의 hash 로 찾으므로, 락을 찾을 때 Long 박싱이나 맵 노드 생성이 없다.
+        this.locks = new Lock[1 << STRIPE_BITS];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
     }
 
-    public Lock getLock(Long id) {
-        // computeIfAbsent 이걸 사용하면 원자성 보장, 만약 userId가 없다면 새로운 lock 을 생성
-        return lockMap.computeIfAbsent(id, k -> new ReentrantLock());
+    public Lock getLock(long id) {
+        return locks[stripe(id)];
     }
 
-    public <T> T executeWithLock(Long id, Supplier<T> supplier) {
-        Lock lock = getLock(id);
+    public <T> T executeWithLock(long id, Supplier<T> supplier) {
+        int stripe = stripe(id);
+        Lock lock = locks[stripe];
+        PointLockEvent event = PointLockEvent.begin(id, stripe);
         lock.lock();
+        PointLockEvent.acquired(event);
         try {
             return supplier.get();
         } finally {
             lock.unlock();
+            PointLockEvent.released(event);
         }
     }
 
-    public void executeWithLock(Long id, Runnable runnable) {
-        Lock lock = getLock(id);
+    public void executeWithLock(long id, Runnable runnable) {
+        int stripe = stripe(id);
+        Lock lock = locks[stripe];
+        PointLockEvent event = PointLockEvent.begin(id, stripe);
         lock.lock();
+        PointLockEvent.acquired(event);
         try {
             runnable.run();
         } finally {
             lock.unlock();
+            PointLockEvent.released(event);
+        }
+    }
+
+    // 값을 캡쳐하는 람다 대신 id, amount 를 그대로 넘겨, 미리 만들어둔 operation 을 재사용할 수 있게 한다.
+    public <T> T executeWithLock(long id, long amount, LockedOperation<T> operation) {
+        int stripe = stripe(id);
+        Lock lock = locks[stripe];
+        PointLockEvent event = PointLockEvent.begin(id, stripe);
+        lock.lock();
+        PointLockEvent.acquired(event);
+        try {
+            return operation.execute(id, amount);
+        } finally {
+            lock.unlock();
+            PointLockEvent.released(event);
         }
     }
+
+    public <T> T executeWithLocks(long id1, long id2, Supplier<T> supplier) {
+        // 항상 stripe 번호가 작은 쪽부터 락을 잡아, 서로 반대 방향으로 요청이 들어와도 데드락이 생기지 않게 한다.
+        int stripe1 = stripe(id1);
+        int stripe2 = stripe(id2);
+        int firstStripe = Math.min(stripe1, stripe2);
+        int secondStripe = Math.max(stripe1, stripe2);
+        Lock first = locks[firstStripe];
+        Lock second = locks[secondStripe];
+        PointLockEvent firstEvent = PointLockEvent.begin(firstStripe == stripe1 ? id1 : id2, firstStripe);
+        first.lock();
+        PointLockEvent.acquired(firstEvent);
+        try {
+            PointLockEvent secondEvent = PointLockEvent.begin(firstStripe == stripe1 ? id2 : id1, secondStripe);
+            second.lock();
+            PointLockEvent.acquired(secondEvent);
+            try {
+                return supplier.get();
+            } finally {
+                second.unlock();
+                PointLockEvent.released(secondEvent);
+            }
+        } finally {
+            first.unlock();
+            PointLockEvent.released(firstEvent);
+        }
+    }
+
+    private int stripe(long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - STRIPE_BITS));
+    }
+
+    @FunctionalInterface
+    public interface LockedOperation<T> {
+        T execute(long id, long amount);
+    }
 }
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.common;
+
+import io.hhplus.tdd.point.domain.PointChangeEvent;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반영이 끝난 포인트 변경을 담아두는 고정 크기 링 버퍼
+ * - 쓰기는 sequence 를 하나 받아 미리 만들어둔 슬롯에 값만 채우므로, 구독자가 느려도 쓰기 경로는 기다리지 않고 객체도 만들지 않는다.
+ * - 구독자는 각자의 sequence 로 읽고, CAPACITY 보다 뒤처지면 덮어쓰인 구간을 건너뛴다.
+ */
+@Component
+public class PointChangeFeed {
+
+    private static final int CAPACITY = 1 << 16;
+    private static final int MASK = CAPACITY - 1;
+    private static final long WRITING = -1L;
+
+    private final Slot[] slots;
+    private final AtomicLong headSequence;
+
+    public PointChangeFeed() {
+        this.slots = new Slot[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            slots[i] = new Slot();
+        }
+        this.headSequence = new AtomicLong();
+    }
+
+    public void publish(PointHistory history, UserPoint userPoint) {
+        long sequence = headSequence.getAndIncrement();
+        Slot slot = slots[index(sequence)];
+        // 쓰는 동안에는 sequence 를 비워둬서, 읽는 쪽이 반쯤 쓰인 슬롯을 읽지 않게 한다.
+        slot.sequence = WRITING;
+        slot.history = history;
+        slot.userPoint = userPoint;
+        slot.sequence = sequence;
+    }
+
+    // 다음에 발행될 sequence
+    public long headSequence() {
+        return headSequence.get();
+    }
+
+    // 아직 덮어쓰이지 않은 가장 오래된 sequence
+    public long tailSequence() {
+        return Math.max(0L, headSequence.get() - CAPACITY);
+    }
+
+    // 해당 sequence 의 이벤트, 아직 쓰는 중이거나 이미 덮어쓰였으면 null
+    public PointChangeEvent get(long sequence) {
+        Slot slot = slots[index(sequence)];
+        if (slot.sequence != sequence) {
+            return null;
+        }
+        PointHistory history = slot.history;
+        UserPoint userPoint = slot.userPoint;
+        // 읽는 사이에 덮어쓰였으면 버린다.
+        if (slot.sequence != sequence) {
+            return null;
+        }
+        return new PointChangeEvent(sequence, history, userPoint);
+    }
+
+    // 마지막으로 받은 sequence 다음부터 이어서 읽을 위치, 아직 발행되지 않은 sequence 면 headSequence
+    // 덮어쓰인 위치면 그대로 돌려주고, 읽는 쪽이 유실을 알린다.
+    public long sequenceAfter(long lastSequence) {
+        return Math.max(0L, Math.min(lastSequence + 1, headSequence()));
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & MASK);
+    }
+
+    private static final class Slot {
+        private volatile long sequence = WRITING;
+        private volatile PointHistory history;
+        private volatile UserPoint userPoint;
+    }
+}
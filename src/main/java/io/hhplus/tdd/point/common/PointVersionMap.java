@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.common;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조건부 조회(ETag/Last-Modified)를 위해 유저별 마지막 변경을 기억해두는 버전 맵
+ * - 유저 id 를 고정된 개수의 칸에 나눠 담고, 칸마다 마지막 내역 id 와 마지막 변경 시각의 최댓값만 둔다.
+ *   내역 id 는 계속 증가하므로 유저의 포인트나 내역이 바뀌면 칸의 버전도 반드시 바뀐다.
+ * - 같은 칸의 다른 유저가 바뀌어도 버전이 바뀌는데, 이때는 304 대신 200 을 한 번 더 응답할 뿐이다.
+ * - 모든 변경은 PointService 의 commit 을 거치므로 쓰기 경로에서 박싱이나 객체 생성 없이 갱신된다.
+ */
+@Component
+public class PointVersionMap {
+
+    private static final int SLOT_BITS = 16;
+    // Last-Modified 는 초 단위로 비교하므로, 마지막 변경과 같은 초 안에서는 쓰지 않는다.
+    private static final long LAST_MODIFIED_RESOLUTION_MILLIS = 1000L;
+
+    // 재시작하면 내역 id 가 다시 시작할 수 있으므로, 이전 프로세스에서 받은 ETag 와 겹치지 않게 붙인다.
+    private final long epoch;
+    private final AtomicLongArray versions;
+    private final AtomicLongArray lastModified;
+
+    public PointVersionMap() {
+        this.epoch = System.currentTimeMillis();
+        this.versions = new AtomicLongArray(1 << SLOT_BITS);
+        this.lastModified = new AtomicLongArray(1 << SLOT_BITS);
+    }
+
+    // 락 안에서 반영이 끝난 변경을 기록한다.
+    public void update(UserPoint userPoint, PointHistory history) {
+        int slot = slot(userPoint.id());
+        versions.accumulateAndGet(slot, history.id(), Math::max);
+        lastModified.accumulateAndGet(slot, Math.max(userPoint.updateMillis(), history.updateMillis()), Math::max);
+    }
+
+    public long version(long id) {
+        return versions.get(slot(id));
+    }
+
+    // 아직 바뀐 적이 없거나 방금 바뀌어 초 단위로 구분할 수 없으면 -1
+    public long lastModified(long id) {
+        long millis = lastModified.get(slot(id));
+        if (millis == 0 || System.currentTimeMillis() - millis < LAST_MODIFIED_RESOLUTION_MILLIS) {
+            return -1L;
+        }
+        return millis;
+    }
+
+    public String eTag(long id, long pending) {
+        return "\"%x-%x-%x\"".formatted(epoch, version(id), pending);
+    }
+
+    private int slot(long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - SLOT_BITS));
+    }
+}
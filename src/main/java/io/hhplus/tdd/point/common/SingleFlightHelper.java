@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class SingleFlightHelper {
+
+    private final Map<Long, CompletableFuture<Object>> inFlightMap;
+    private final LongAdder requestCount;
+    private final LongAdder executionCount;
+
+    public SingleFlightHelper() {
+        // 같은 id 에 대해 진행중인 조회를 공유하기 위해 ConcurrentHashMap 을 이용
+        this.inFlightMap = new ConcurrentHashMap<>();
+        this.requestCount = new LongAdder();
+        this.executionCount = new LongAdder();
+    }
+
+    @Autowired
+    public SingleFlightHelper(ObjectProvider<MeterRegistry> meterRegistry) {
+        this();
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long id, Supplier<T> supplier) {
+        requestCount.increment();
+
+        CompletableFuture<Object> myFlight = new CompletableFuture<>();
+        // putIfAbsent 로 먼저 들어온 요청만 실제 조회를 수행하고, 나머지는 그 결과를 기다린다.
+        CompletableFuture<Object> inFlight = inFlightMap.putIfAbsent(id, myFlight);
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+
+        executionCount.increment();
+        try {
+            T result = supplier.get();
+            myFlight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            myFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 결과를 넘긴 뒤에는 바로 제거해서 이후 조회는 새로 읽도록 한다.
+            inFlightMap.remove(id, myFlight);
+        }
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * 전체 조회 요청 중 다른 요청의 결과를 공유받은 비율 (0.0 ~ 1.0)
+     */
+    public double getCoalescingRatio() {
+        long requests = requestCount.sum();
+        if (requests == 0) {
+            return 0.0;
+        }
+        return 1.0 - (double) executionCount.sum() / requests;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("point.single-flight.coalescing-ratio", this, SingleFlightHelper::getCoalescingRatio)
+                .register(registry);
+        FunctionCounter.builder("point.single-flight.requests", this, SingleFlightHelper::getRequestCount)
+                .register(registry);
+        FunctionCounter.builder("point.single-flight.executions", this, SingleFlightHelper::getExecutionCount)
+                .register(registry);
+    }
+
+    private Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.exception.ErrorCode;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내부 대량 호출용 바이너리 프로토콜 (big endian, 고정 길이 필드)
+ *
+ * 요청 : [int length][byte op][long userId]([long amount] - CHARGE/USE 만)
+ * 응답 : [int length][byte status][payload]
+ * - OK + UserPoint     : [long id][long point][long updateMillis]
+ * - OK + PointHistory  : [int count]{[long id][long userId][long amount][byte type][long updateMillis]}*
+ * - POINT_ERROR        : [byte errorCode ordinal]
+ * - BAD_REQUEST, INTERNAL_ERROR : payload 없음
+ *
+ * length 는 자기 자신(4 byte)을 제외한 길이이며, 한 연결에서 여러 요청을 응답을 기다리지 않고 연달아 보낼 수 있다.
+ * 응답은 요청 순서대로 돌아온다.
+ */
+public final class PointBinaryProtocol {
+
+    public static final byte OP_GET = 1;
+    public static final byte OP_HISTORY = 2;
+    public static final byte OP_CHARGE = 3;
+    public static final byte OP_USE = 4;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_POINT_ERROR = 1;
+    public static final byte STATUS_BAD_REQUEST = 2;
+    public static final byte STATUS_INTERNAL_ERROR = 3;
+
+    public static final int MAX_REQUEST_LENGTH = 1 + Long.BYTES * 2;
+
+    private static final int USER_POINT_LENGTH = Long.BYTES * 3;
+    private static final int HISTORY_ROW_LENGTH = Long.BYTES * 4 + 1;
+
+    private PointBinaryProtocol() {
+    }
+
+    public static int requestLength(byte op) {
+        return switch (op) {
+            case OP_GET, OP_HISTORY -> 1 + Long.BYTES;
+            case OP_CHARGE, OP_USE -> 1 + Long.BYTES * 2;
+            default -> -1;
+        };
+    }
+
+    public static void writeUserPoint(DataOutputStream out, UserPoint userPoint) throws IOException {
+        out.writeInt(1 + USER_POINT_LENGTH);
+        out.writeByte(STATUS_OK);
+        out.writeLong(userPoint.id());
+        out.writeLong(userPoint.point());
+        out.writeLong(userPoint.updateMillis());
+    }
+
+    public static void writeHistories(DataOutputStream out, List<PointHistory> histories) throws IOException {
+        int count = histories.size();
+        out.writeInt(1 + Integer.BYTES + count * HISTORY_ROW_LENGTH);
+        out.writeByte(STATUS_OK);
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            PointHistory history = histories.get(i);
+            out.writeLong(history.id());
+            out.writeLong(history.userId());
+            out.writeLong(history.amount());
+            out.writeByte(history.type().ordinal());
+            out.writeLong(history.updateMillis());
+        }
+    }
+
+    public static void writePointError(DataOutputStream out, ErrorCode errorCode) throws IOException {
+        out.writeInt(2);
+        out.writeByte(STATUS_POINT_ERROR);
+        out.writeByte(errorCode.ordinal());
+    }
+
+    public static void writeStatus(DataOutputStream out, byte status) throws IOException {
+        out.writeInt(1);
+        out.writeByte(status);
+    }
+}
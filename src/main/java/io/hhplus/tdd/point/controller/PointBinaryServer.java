@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.service.PointService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.hhplus.tdd.point.controller.PointBinaryProtocol.*;
+
+/**
+ * PointController 와 같은 기능을 {@link PointBinaryProtocol} 로 제공하는 TCP 서버
+ * - 연결마다 하나의 스레드가 요청을 순서대로 처리하고, 버퍼에 남은 요청이 없을 때만 flush 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.binary", name = "enabled", havingValue = "true")
+public class PointBinaryServer {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBinaryServer.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PointService pointService;
+    private final int port;
+
+    private ServerSocket serverSocket;
+    private ExecutorService executorService;
+
+    public PointBinaryServer(PointService pointService, @Value("${point.binary.port:9090}") int port) {
+        this.pointService = pointService;
+        this.port = port;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port);
+        executorService = Executors.newCachedThreadPool();
+        executorService.execute(this::acceptLoop);
+        log.info("point binary server started on port {}", serverSocket.getLocalPort());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        serverSocket.close();
+        executorService.shutdownNow();
+    }
+
+    public int getLocalPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executorService.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("failed to accept binary connection", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                if (length < 1 || length > MAX_REQUEST_LENGTH) {
+                    // 프레임 경계를 잃었으므로 더 읽지 않고 연결을 끊는다.
+                    writeStatus(out, STATUS_BAD_REQUEST);
+                    out.flush();
+                    return;
+                }
+                handle(in, out, length);
+                // 파이프라이닝된 요청이 남아 있으면 모아서 한 번에 보낸다.
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (SocketException | EOFException e) {
+            log.debug("binary connection closed: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("binary connection failed", e);
+        }
+    }
+
+    private void handle(DataInputStream in, DataOutputStream out, int length) throws IOException {
+        byte op = in.readByte();
+        if (requestLength(op) != length) {
+            in.skipNBytes(length - 1);
+            writeStatus(out, STATUS_BAD_REQUEST);
+            return;
+        }
+        long userId = in.readLong();
+        try {
+            switch (op) {
+                case OP_GET -> writeUserPoint(out, pointService.getPoint(userId));
+                case OP_HISTORY -> writeHistories(out, pointService.getHistory(userId));
+                case OP_CHARGE -> writeUserPoint(out, pointService.charge(userId, in.readLong()));
+                case OP_USE -> writeUserPoint(out, pointService.use(userId, in.readLong()));
+                default -> writeStatus(out, STATUS_BAD_REQUEST);
+            }
+        } catch (PointException e) {
+            writePointError(out, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("binary request failed", e);
+            writeStatus(out, STATUS_INTERNAL_ERROR);
+        }
+    }
+}
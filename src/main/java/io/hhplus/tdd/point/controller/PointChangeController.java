@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.service.PointChangeStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+public class PointChangeController {
+
+    private final PointChangeStreamService pointChangeStreamService;
+
+    /**
+     * 포인트 변경 내역을 SSE 로 구독한다.
+     * 이벤트 id 는 변경 피드의 sequence 이며, Last-Event-ID 헤더(또는 offset)로 넘긴 sequence 다음부터 이어서 받는다.
+     * 내역 id 는 유저마다 발행 순서가 달라질 수 있어 이어받기 기준으로 쓰지 않는다.
+     */
+    @GetMapping(value = "changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(value = "offset", required = false) Long offset
+    ) {
+        return pointChangeStreamService.subscribe(lastEventId != null ? lastEventId : offset);
+    }
+}
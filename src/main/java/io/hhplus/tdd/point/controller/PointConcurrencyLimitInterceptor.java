@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.common.ConcurrencyLimiter;
+import io.hhplus.tdd.point.exception.ConcurrencyLimitException;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 포인트 API 앞단에서 조회/쓰기 요청의 동시 처리 수를 각각 제한한다.
+ * 테이블 지연이 늘어날 때 Tomcat 스레드와 유저 락에 요청이 쌓이기 전에 503 으로 바로 거절한다.
+ * 여러 유저를 한 번에 조회하는 요청(ids)은 조회할 유저 수만큼, 단 현재 한도를 넘지 않게 자리를 차지한다.
+ */
+@Component
+public class PointConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LIMITER_ATTRIBUTE = PointConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = PointConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String PERMITS_ATTRIBUTE = PointConcurrencyLimitInterceptor.class.getName() + ".permits";
+    private static final String IDS_PARAMETER = "ids";
+
+    private final ConcurrencyLimiter readLimiter;
+    private final ConcurrencyLimiter writeLimiter;
+    // 거절은 흐름 제어이므로 매번 만들지 않고 재사용한다.
+    private final ConcurrencyLimitException limitException;
+
+    public PointConcurrencyLimitInterceptor(@Value("${point.concurrency-limit.read.initial-limit:100}") int readInitialLimit,
+                                            @Value("${point.concurrency-limit.read.min-limit:10}") int readMinLimit,
+                                            @Value("${point.concurrency-limit.read.max-limit:200}") int readMaxLimit,
+                                            @Value("${point.concurrency-limit.write.initial-limit:50}") int writeInitialLimit,
+                                            @Value("${point.concurrency-limit.write.min-limit:5}") int writeMinLimit,
+                                            @Value("${point.concurrency-limit.write.max-limit:200}") int writeMaxLimit,
+                                            @Value("${point.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.readLimiter = new ConcurrencyLimiter(readInitialLimit, readMinLimit, readMaxLimit);
+        this.writeLimiter = new ConcurrencyLimiter(writeInitialLimit, writeMinLimit, writeMaxLimit);
+        this.limitException = new ConcurrencyLimitException(retryAfterSeconds);
+        meterRegistry.ifAvailable(registry -> {
+            registerMetrics(registry, "read", readLimiter);
+            registerMetrics(registry, "write", writeLimiter);
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ConcurrencyLimiter limiter = "GET".equals(request.getMethod()) ? readLimiter : writeLimiter;
+        int permits = limiter.tryAcquire(permits(request));
+        if (permits == 0) {
+            throw limitException;
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(PERMITS_ATTRIBUTE, permits);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof ConcurrencyLimiter limiter) {
+            limiter.release((int) request.getAttribute(PERMITS_ATTRIBUTE), System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE));
+            request.removeAttribute(LIMITER_ATTRIBUTE);
+        }
+    }
+
+    public ConcurrencyLimiter getReadLimiter() {
+        return readLimiter;
+    }
+
+    public ConcurrencyLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+
+    // 한 번에 조회할 수 있는 유저 수를 넘는 요청은 서비스에서 거절되므로 그 이상은 세지 않는다.
+    private static int permits(HttpServletRequest request) {
+        String[] values = request.getParameterValues(IDS_PARAMETER);
+        if (values == null) {
+            return 1;
+        }
+        int ids = 0;
+        for (String value : values) {
+            ids += value.split(",").length;
+        }
+        return Math.max(1, Math.min(ids, PointService.MAX_BATCH_USERS));
+    }
+
+    private void registerMetrics(MeterRegistry registry, String type, ConcurrencyLimiter limiter) {
+        Gauge.builder("point.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("point.concurrency.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("point.concurrency.rejected", limiter, ConcurrencyLimiter::getRejectedCount)
+                .tag("type", type)
+                .register(registry);
+    }
+}
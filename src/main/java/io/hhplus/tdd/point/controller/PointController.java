@@ -1,12 +1,16 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.domain.PointBatch;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryBatch;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,18 +28,49 @@ public class PointController {
      */
     @GetMapping("{id}")
     public UserPoint point(
-            @PathVariable long id
+            @PathVariable long id,
+            WebRequest webRequest
     ) {
+        // 바뀌지 않았으면 테이블을 읽지 않고 304 로 응답한다.
+        if (webRequest.checkNotModified(pointService.getPointETag(id), pointService.getPointLastModified(id))) {
+            return null;
+        }
         return pointService.getPoint(id);
     }
 
+    /**
+     * 여러 유저의 포인트를 한 번에 조회한다. (GET /point?ids=1,2,3)
+     * 마감 시간 안에 조회하지 못한 유저는 unresolvedIds 로 돌려준다.
+     */
+    @GetMapping
+    public PointBatch points(
+            @RequestParam List<Long> ids
+    ) {
+        return pointService.getPoints(ids);
+    }
+
+    /**
+     * 여러 유저의 포인트 내역을 한 번에 조회한다. (GET /point/histories?ids=1,2,3)
+     * 마감 시간 안에 조회하지 못한 유저는 unresolvedIds 로 돌려준다.
+     */
+    @GetMapping("histories")
+    public PointHistoryBatch histories(
+            @RequestParam List<Long> ids
+    ) {
+        return pointService.getHistories(ids);
+    }
+
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
-            @PathVariable long id
+            @PathVariable long id,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(pointService.getHistoryETag(id), pointService.getHistoryLastModified(id))) {
+            return null;
+        }
         return pointService.getHistory(id);
     }
 
@@ -60,4 +95,14 @@ public class PointController {
     ) {
         return pointService.use(id, amount);
     }
+
+    /**
+     * 한 유저의 포인트를 다른 유저에게 전송한다.
+     */
+    @PostMapping("transfer")
+    public PointTransfer transfer(
+            @RequestBody PointTransferRequest request
+    ) {
+        return pointService.transfer(request.fromId(), request.toId(), request.amount());
+    }
 }
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.controller;
+
+public record PointTransferRequest(
+        long fromId,
+        long toId,
+        long amount
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class PointWebConfig implements WebMvcConfigurer {
+
+    private final PointConcurrencyLimitInterceptor pointConcurrencyLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 변경 스트림(SSE)은 연결을 오래 붙잡고 있으므로 한도 계산에서 뺀다.
+        registry.addInterceptor(pointConcurrencyLimitInterceptor)
+                .addPathPatterns("/point/**")
+                .excludePathPatterns("/point/changes");
+    }
+}
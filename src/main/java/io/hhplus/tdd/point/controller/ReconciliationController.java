@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.domain.ReconciliationReport;
+import io.hhplus.tdd.point.service.PointReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/reconciliation")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final PointReconciliationService pointReconciliationService;
+
+    /**
+     * 포인트/내역 정합성 검증을 시작한다. 이미 진행 중이면 진행 중인 검증의 현황을 반환한다.
+     */
+    @PostMapping
+    public ReconciliationReport start() {
+        return pointReconciliationService.start();
+    }
+
+    /**
+     * 가장 최근 검증의 진행 현황과 결과를 조회한다.
+     */
+    @GetMapping
+    public ResponseEntity<ReconciliationReport> report() {
+        ReconciliationReport report = pointReconciliationService.getReport();
+        if (report == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+public record PointBatch(
+        List<UserPoint> points,
+        List<Long> unresolvedIds
+) {
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.domain;
+
+public record PointChangeEvent(
+        long sequence,
+        PointHistory history,
+        UserPoint userPoint
+) {
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.domain;
+
+/**
+ * 유저 포인트와 내역 합계(CHARGE - USE)가 맞지 않는 유저
+ */
+public record PointDrift(
+        long userId,
+        long point,
+        long expectedPoint
+) {
+
+    public long difference() {
+        return point - expectedPoint;
+    }
+}
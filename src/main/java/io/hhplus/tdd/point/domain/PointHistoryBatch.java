@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+import java.util.Map;
+
+public record PointHistoryBatch(
+        Map<Long, List<PointHistory>> histories,
+        List<Long> unresolvedIds
+) {
+}
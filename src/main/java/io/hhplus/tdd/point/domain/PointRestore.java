@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.point.enums.TransactionType;
+
+import java.util.List;
+
+/**
+ * 덤프에서 읽은 유저 한 명의 포인트와 내역
+ * - 내역 합계(CHARGE - USE)가 포인트와 같아야 검증에서 불일치로 잡히지 않는다.
+ */
+public record PointRestore(
+        long userId,
+        long point,
+        List<History> histories
+) {
+
+    public record History(long amount, TransactionType type, long updateMillis) {
+
+        public long signedAmount() {
+            return type == TransactionType.CHARGE ? amount : -amount;
+        }
+    }
+}
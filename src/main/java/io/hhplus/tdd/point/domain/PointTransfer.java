@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.domain;
+
+public record PointTransfer(
+        UserPoint from,
+        UserPoint to
+) {
+}
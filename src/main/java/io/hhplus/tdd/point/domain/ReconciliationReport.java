@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+public record ReconciliationReport(
+        long jobId,
+        Status status,
+        long historyRows,
+        long totalUsers,
+        long checkedUsers,
+        List<PointDrift> drifts,
+        long startedMillis,
+        long finishedMillis,
+        String failure
+) {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
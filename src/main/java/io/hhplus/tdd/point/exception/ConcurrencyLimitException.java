@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 처리 한도를 넘어 바로 거절된 요청
+ * 클라이언트가 retryAfterSeconds 뒤에 다시 시도하도록 Retry-After 로 내려준다.
+ */
+@Getter
+public class ConcurrencyLimitException extends PointException {
+
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitException(long retryAfterSeconds) {
+        super(ErrorCode.SERVICE_OVERLOADED, ErrorCode.SERVICE_OVERLOADED.getMessage());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -9,7 +9,10 @@ public enum ErrorCode {
 
     INVALID_CHARGE_POINT("0 미만의 포인트는 충전되지 않습니다.","400"),
     NOT_ENOUGH_POINT("포인트가 부족합니다.","400"),
-    ZERO_POINT("포인트가 0입니다.","400");
+    ZERO_POINT("포인트가 0입니다.","400"),
+    SAME_USER_TRANSFER("같은 유저에게는 포인트를 전송할 수 없습니다.","400"),
+    TOO_MANY_USERS("한 번에 조회할 수 있는 유저 수를 넘었습니다.","400"),
+    SERVICE_OVERLOADED("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.","503");
 
     private final String message;
     private final String statusCode;
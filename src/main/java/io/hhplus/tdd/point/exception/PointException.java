@@ -1,15 +1,23 @@
 package io.hhplus.tdd.point.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor
+/**
+ * 비즈니스 예외는 흐름 제어에 쓰이므로 stack trace 를 남기지 않는다.
+ * 생성 비용이 거의 없어 미리 만들어둔 인스턴스를 재사용해도 된다.
+ */
 @Getter
 public class PointException extends RuntimeException {
 
     private final ErrorCode errorCode;
     private final String message;
 
+    public PointException(ErrorCode errorCode, String message) {
+        super(null, null, false, false);
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+
     @Override
     public String getMessage() {
         return "[%s] %s".formatted(errorCode, message);
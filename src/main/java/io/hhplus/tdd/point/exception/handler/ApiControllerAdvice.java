@@ -1,7 +1,9 @@
 package io.hhplus.tdd.point.exception.handler;
 
+import io.hhplus.tdd.point.exception.ConcurrencyLimitException;
 import io.hhplus.tdd.point.exception.ErrorResponse;
 import io.hhplus.tdd.point.exception.PointException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,4 +19,10 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> handlePointException(PointException e) {
         return ResponseEntity.status(400).body(new ErrorResponse(e.getErrorCode().getStatusCode(), e.getMessage()));
     }
+    @ExceptionHandler(value = ConcurrencyLimitException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitException(ConcurrencyLimitException e) {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getErrorCode().getStatusCode(), e.getMessage()));
+    }
 }
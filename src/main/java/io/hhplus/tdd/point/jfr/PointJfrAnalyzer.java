@@ -0,0 +1,127 @@
+package io.hhplus.tdd.point.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 JFR 이벤트가 담긴 .jfr 파일을 읽어 가장 요청이 많은 유저와 가장 오래 걸린 구간을 보여준다.
+ * - 유저는 요청 수 순서로, 요청 수가 같으면 걸린 시간 합 순서로 나열한다.
+ * - 구간(phase)은 요청 종류별 처리, 락 대기, 락 점유, 테이블 메서드별 호출로 나누고, 걸린 시간 합 순서로 나열한다.
+ * 사용법: ./gradlew analyzeJfr -PjfrFile=build/jfr/point.jfr [-PjfrTop=10]
+ */
+public class PointJfrAnalyzer {
+
+    private static final int DEFAULT_TOP = 10;
+
+    public record UserStat(long userId, long operations, long failures, long totalNanos) {
+    }
+
+    public record PhaseStat(String phase, long count, long totalNanos, long p99Nanos, long maxNanos) {
+    }
+
+    public record Report(List<UserStat> hottestUsers, List<PhaseStat> slowestPhases) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: PointJfrAnalyzer <recording.jfr> [top]");
+            System.exit(1);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TOP;
+        print(analyze(Path.of(args[0]), top));
+    }
+
+    public static Report analyze(Path recording, int top) throws IOException {
+        Map<Long, long[]> users = new HashMap<>();
+        Map<String, PhaseSamples> phases = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case PointOperationEvent.NAME -> {
+                        long nanos = event.getDuration().toNanos();
+                        long[] user = users.computeIfAbsent(event.getLong("userId"), k -> new long[3]);
+                        user[0]++;
+                        if (!PointOperationEvent.SUCCESS.equals(event.getString("outcome"))) {
+                            user[1]++;
+                        }
+                        user[2] += nanos;
+                        phase(phases, "operation " + event.getString("operation")).add(nanos);
+                    }
+                    case PointLockEvent.NAME -> {
+                        phase(phases, "lock wait").add(event.getLong("waitNanos"));
+                        phase(phases, "lock hold").add(event.getLong("holdNanos"));
+                    }
+                    case PointTableEvent.NAME -> phase(phases, "table " + event.getString("table") + "." + event.getString("method"))
+                            .add(event.getDuration().toNanos());
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        List<UserStat> hottestUsers = users.entrySet().stream()
+                .map(entry -> new UserStat(entry.getKey(), entry.getValue()[0], entry.getValue()[1], entry.getValue()[2]))
+                .sorted(Comparator.comparingLong(UserStat::operations).thenComparingLong(UserStat::totalNanos).reversed())
+                .limit(top)
+                .toList();
+        List<PhaseStat> slowestPhases = phases.entrySet().stream()
+                .map(entry -> entry.getValue().toStat(entry.getKey()))
+                .sorted(Comparator.comparingLong(PhaseStat::totalNanos).reversed())
+                .toList();
+        return new Report(hottestUsers, slowestPhases);
+    }
+
+    private static PhaseSamples phase(Map<String, PhaseSamples> phases, String phase) {
+        return phases.computeIfAbsent(phase, k -> new PhaseSamples());
+    }
+
+    private static void print(Report report) {
+        System.out.println("== hottest users ==");
+        System.out.printf("%12s %10s %10s %12s%n", "userId", "ops", "failures", "total(ms)");
+        for (UserStat user : report.hottestUsers()) {
+            System.out.printf("%12d %10d %10d %12.1f%n", user.userId(), user.operations(), user.failures(), millis(user.totalNanos()));
+        }
+        System.out.println();
+        System.out.println("== slowest phases ==");
+        System.out.printf("%-40s %10s %12s %10s %10s%n", "phase", "count", "total(ms)", "p99(ms)", "max(ms)");
+        for (PhaseStat phase : report.slowestPhases()) {
+            System.out.printf("%-40s %10d %12.1f %10.2f %10.2f%n",
+                    phase.phase(), phase.count(), millis(phase.totalNanos()), millis(phase.p99Nanos()), millis(phase.maxNanos()));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // p99 를 구하기 위해 구간별 소요 시간을 모두 모아둔다.
+    private static final class PhaseSamples {
+        private long[] nanos = new long[64];
+        private int size;
+        private long total;
+
+        private void add(long sample) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = sample;
+            total += sample;
+        }
+
+        private PhaseStat toStat(String phase) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            int p99Index = (int) Math.ceil(size * 0.99) - 1;
+            return new PhaseStat(phase, size, total, sorted[Math.max(0, p99Index)], sorted[size - 1]);
+        }
+    }
+}
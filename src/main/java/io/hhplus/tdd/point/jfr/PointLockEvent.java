@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 유저 락 한 번을 기다린 시간과 잡고 있던 시간을 기록하는 JFR 이벤트
+ * 이벤트 길이는 기다리기 시작해서 놓을 때까지이고, wait/hold 로 나눠서 남긴다.
+ */
+@Name(PointLockEvent.NAME)
+@Label("Point Lock")
+@Category("Point")
+@Description("유저 락 대기 시간과 점유 시간")
+@StackTrace(false)
+public class PointLockEvent extends Event {
+
+    public static final String NAME = "io.hhplus.tdd.point.Lock";
+
+    private static final EventType TYPE = EventType.getEventType(PointLockEvent.class);
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Stripe")
+    int stripe;
+
+    @Label("Wait")
+    @Timespan
+    long waitNanos;
+
+    @Label("Hold")
+    @Timespan
+    long holdNanos;
+
+    private transient long waitStart;
+    private transient long acquiredAt;
+
+    // 락을 잡기 직전에 부른다.
+    public static PointLockEvent begin(long userId, int stripe) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        PointLockEvent event = new PointLockEvent();
+        event.userId = userId;
+        event.stripe = stripe;
+        event.begin();
+        event.waitStart = System.nanoTime();
+        return event;
+    }
+
+    // 락을 잡은 직후에 부른다.
+    public static void acquired(PointLockEvent event) {
+        if (event != null) {
+            event.acquiredAt = System.nanoTime();
+            event.waitNanos = event.acquiredAt - event.waitStart;
+        }
+    }
+
+    // 락을 놓은 직후에 부른다.
+    public static void released(PointLockEvent event) {
+        if (event != null) {
+            event.holdNanos = System.nanoTime() - event.acquiredAt;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.jfr;
+
+import io.hhplus.tdd.point.exception.PointException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 포인트 조회/충전/사용/전송 한 건을 기록하는 JFR 이벤트
+ * - 녹화 중이 아니면 begin 이 null 을 돌려주므로, 이벤트 객체를 만들지 않는다.
+ * - 예외 없이 끝나면 SUCCESS, 비즈니스 예외면 ErrorCode 이름, 그 밖의 예외면 ERROR 로 남는다.
+ * - 요청 한 건은 record 로 감싸서만 기록한다.
+ */
+@Name(PointOperationEvent.NAME)
+@Label("Point Operation")
+@Category("Point")
+@Description("포인트 요청 한 건의 종류, 유저, 금액, 결과")
+@StackTrace(false)
+public class PointOperationEvent extends Event {
+
+    public static final String NAME = "io.hhplus.tdd.point.Operation";
+
+    public static final String GET = "GET";
+    public static final String CHARGE = "CHARGE";
+    public static final String USE = "USE";
+    public static final String TRANSFER = "TRANSFER";
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String ERROR = "ERROR";
+
+    private static final EventType TYPE = EventType.getEventType(PointOperationEvent.class);
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Target User Id")
+    @Description("전송 받는 유저, 전송이 아니면 0")
+    long targetUserId;
+
+    @Label("Amount")
+    long amount;
+
+    @Label("Outcome")
+    String outcome = ERROR;
+
+    // 녹화 중이면 action 실행을 이벤트로 감싸고, 결과나 비즈니스 예외를 그대로 넘긴다.
+    public static <T> T record(String operation, long userId, long targetUserId, long amount, Action<T> action) {
+        PointOperationEvent event = begin(operation, userId, targetUserId, amount);
+        try {
+            return succeed(event, action.execute(userId, targetUserId, amount));
+        } catch (PointException e) {
+            throw fail(event, e);
+        } finally {
+            end(event);
+        }
+    }
+
+    private static PointOperationEvent begin(String operation, long userId, long targetUserId, long amount) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        PointOperationEvent event = new PointOperationEvent();
+        event.operation = operation;
+        event.userId = userId;
+        event.targetUserId = targetUserId;
+        event.amount = amount;
+        event.begin();
+        return event;
+    }
+
+    private static <T> T succeed(PointOperationEvent event, T result) {
+        if (event != null) {
+            event.outcome = SUCCESS;
+        }
+        return result;
+    }
+
+    private static PointException fail(PointOperationEvent event, PointException exception) {
+        if (event != null) {
+            event.outcome = exception.getErrorCode().name();
+        }
+        return exception;
+    }
+
+    private static void end(PointOperationEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T execute(long userId, long targetUserId, long amount);
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 저장소가 테이블을 한 번 호출하는 데 걸린 시간을 기록하는 JFR 이벤트
+ */
+@Name(PointTableEvent.NAME)
+@Label("Point Table Call")
+@Category("Point")
+@Description("UserPointTable / PointHistoryTable 호출 지연")
+@StackTrace(false)
+public class PointTableEvent extends Event {
+
+    public static final String NAME = "io.hhplus.tdd.point.TableCall";
+
+    private static final EventType TYPE = EventType.getEventType(PointTableEvent.class);
+
+    @Label("Table")
+    String table;
+
+    @Label("Method")
+    String method;
+
+    @Label("User Id")
+    long userId;
+
+    public static PointTableEvent begin(String table, String method, long userId) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        PointTableEvent event = new PointTableEvent();
+        event.table = table;
+        event.method = method;
+        event.userId = userId;
+        event.begin();
+        return event;
+    }
+
+    public static void end(PointTableEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
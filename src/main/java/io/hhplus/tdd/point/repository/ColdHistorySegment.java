@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 디스크에 봉인된 내역 세그먼트
+ *
+ * 파일 형식 (big endian)
+ * [int magic][byte version][long segmentStart][long baseId][long maxId][int rowCount][int userCount]
+ * [index: userCount x ([long userId][int offset][int length])]  - userId 오름차순, offset 은 data 시작 기준
+ * [data : 유저별 블록 {[varint rows] rows x ([varint idDelta][varint zigzag(timeDelta)][byte type][varint zigzag(amount)])}]
+ * - 첫 행의 idDelta 는 baseId, timeDelta 는 segmentStart 기준이고 이후는 직전 행 기준이다.
+ * - amount 는 long 전체 범위를 담을 수 있게 zigzag 로 쓴다.
+ * - 인덱스만 메모리에 두고, 유저 블록은 조회할 때 해당 위치만 읽는다.
+ */
+public final class ColdHistorySegment {
+
+    private static final int MAGIC = 0x50484953;
+    private static final byte VERSION = 2;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES * 2;
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES * 3 + Integer.BYTES * 2;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path path;
+    private final long segmentStart;
+    private final long baseId;
+    private final long maxId;
+    private final int rowCount;
+    private final long[] userIds;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final long dataStart;
+
+    private ColdHistorySegment(Path path, long segmentStart, long baseId, long maxId, int rowCount,
+                               long[] userIds, int[] offsets, int[] lengths) {
+        this.path = path;
+        this.segmentStart = segmentStart;
+        this.baseId = baseId;
+        this.maxId = maxId;
+        this.rowCount = rowCount;
+        this.userIds = userIds;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.dataStart = HEADER_BYTES + (long) userIds.length * INDEX_ENTRY_BYTES;
+    }
+
+    public static ColdHistorySegment write(Path path, long segmentStart, List<PointHistory> rows) throws IOException {
+        Map<Long, List<PointHistory>> byUser = new TreeMap<>();
+        long baseId = Long.MAX_VALUE;
+        long maxId = 0;
+        for (PointHistory row : rows) {
+            byUser.computeIfAbsent(row.userId(), k -> new ArrayList<>()).add(row);
+            baseId = Math.min(baseId, row.id());
+            maxId = Math.max(maxId, row.id());
+        }
+        if (rows.isEmpty()) {
+            baseId = 0;
+        }
+
+        long[] userIds = new long[byUser.size()];
+        int[] offsets = new int[byUser.size()];
+        int[] lengths = new int[byUser.size()];
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int index = 0;
+        for (Map.Entry<Long, List<PointHistory>> entry : byUser.entrySet()) {
+            List<PointHistory> userRows = entry.getValue();
+            userRows.sort(Comparator.comparingLong(PointHistory::id));
+            int offset = data.size();
+            writeVarint(data, userRows.size());
+            long prevId = baseId;
+            long prevMillis = segmentStart;
+            for (PointHistory row : userRows) {
+                writeVarint(data, row.id() - prevId);
+                writeVarint(data, zigzag(row.updateMillis() - prevMillis));
+                data.write(row.type().ordinal());
+                writeVarint(data, zigzag(row.amount()));
+                prevId = row.id();
+                prevMillis = row.updateMillis();
+            }
+            userIds[index] = entry.getKey();
+            offsets[index] = offset;
+            lengths[index] = data.size() - offset;
+            index++;
+        }
+
+        // 다 쓴 뒤에 이름을 바꿔서, 중간에 죽어도 반쯤 쓰인 세그먼트가 남지 않게 한다.
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(segmentStart);
+            out.writeLong(baseId);
+            out.writeLong(maxId);
+            out.writeInt(rows.size());
+            out.writeInt(userIds.length);
+            for (int i = 0; i < userIds.length; i++) {
+                out.writeLong(userIds[i]);
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+            data.writeTo(out);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new ColdHistorySegment(path, segmentStart, baseId, maxId, rows.size(), userIds, offsets, lengths);
+    }
+
+    public static ColdHistorySegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("내역 세그먼트 파일이 아닙니다: " + path);
+            }
+            byte version = header.get();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 내역 세그먼트 버전입니다: " + version + " " + path);
+            }
+            long segmentStart = header.getLong();
+            long baseId = header.getLong();
+            long maxId = header.getLong();
+            int rowCount = header.getInt();
+            int userCount = header.getInt();
+            ByteBuffer index = readFully(channel, HEADER_BYTES, userCount * INDEX_ENTRY_BYTES);
+            long[] userIds = new long[userCount];
+            int[] offsets = new int[userCount];
+            int[] lengths = new int[userCount];
+            for (int i = 0; i < userCount; i++) {
+                userIds[i] = index.getLong();
+                offsets[i] = index.getInt();
+                lengths[i] = index.getInt();
+            }
+            return new ColdHistorySegment(path, segmentStart, baseId, maxId, rowCount, userIds, offsets, lengths);
+        }
+    }
+
+    public List<PointHistory> selectByUserId(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index < 0) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<PointHistory> rows = new ArrayList<>();
+            decodeBlock(userId, readFully(channel, dataStart + offsets[index], lengths[index]), rows);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<PointHistory> selectAll() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer data = readFully(channel, dataStart, (int) (channel.size() - dataStart));
+            List<PointHistory> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < userIds.length; i++) {
+                data.position(offsets[i]);
+                decodeBlock(userIds[i], data, rows);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long segmentStart() {
+        return segmentStart;
+    }
+
+    public long maxId() {
+        return maxId;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long[] userIds() {
+        return userIds.clone();
+    }
+
+    private void decodeBlock(long userId, ByteBuffer block, List<PointHistory> sink) {
+        long rows = readVarint(block);
+        long id = baseId;
+        long millis = segmentStart;
+        for (long i = 0; i < rows; i++) {
+            id += readVarint(block);
+            millis += unzigzag(readVarint(block));
+            TransactionType type = TYPES[block.get()];
+            sink.add(new PointHistory(id, userId, unzigzag(readVarint(block)), type, millis));
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("내역 세그먼트 파일이 잘렸습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.jfr.PointTableEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 유저의 내역을 동시에 쌓을 수 있는 내역 저장소 (point.history.storage=concurrent)
+ * - id 는 AtomicLong 으로 락 없이 발급한다.
+ * - 내역은 유저마다 둔 append 로그에 한 번만 쓰므로, 다른 유저를 쓰는 스레드끼리는 id 발급 외에 아무것도 공유하지 않는다.
+ * - 유저별 조회는 유저 로그를 복사 없이 그대로 보여주는 읽기 전용 view 로 돌려준다.
+ * - selectAll 은 유저 로그들을 id 순서로 합치되, 시작할 때 발급된 id(watermark) 까지만 빠짐없이 모아서 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.history", name = "storage", havingValue = "concurrent")
+public class ConcurrentPointHistoryRepository implements PointHistoryRepository {
+
+    private static final String TABLE = "PointHistoryTable";
+
+    private final KnownUserFilter knownUserFilter;
+    private final AtomicLong idSequence = new AtomicLong();
+    private final Map<Long, AppendLog> userLogMap = new ConcurrentHashMap<>();
+
+    public ConcurrentPointHistoryRepository(KnownUserFilter knownUserFilter) {
+        this.knownUserFilter = knownUserFilter;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        knownUserFilter.add(userId);
+        AppendLog userLog = userLogMap.computeIfAbsent(userId, k -> new AppendLog());
+        PointTableEvent event = PointTableEvent.begin(TABLE, "insert", userId);
+        // 같은 유저끼리만 기다린다. id 발급을 유저 로그 안에서 해야 유저별 로그가 id 순서를 지킨다.
+        try {
+            synchronized (userLog) {
+                PointHistory pointHistory = new PointHistory(idSequence.incrementAndGet(), userId, amount, type, updateMillis);
+                userLog.append(pointHistory);
+                return pointHistory;
+            }
+        } finally {
+            PointTableEvent.end(event);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        if (!knownUserFilter.mightContain(userId)) {
+            return List.of();
+        }
+        PointTableEvent event = PointTableEvent.begin(TABLE, "selectAllByUserId", userId);
+        try {
+            AppendLog userLog = userLogMap.get(userId);
+            return userLog == null ? List.of() : userLog.view();
+        } finally {
+            PointTableEvent.end(event);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAll() {
+        // 발급된 id 는 1 부터 빈틈이 없으므로, watermark 개수만큼 모이면 그 아래 id 는 모두 보인 것이다.
+        // 모자라면 id 를 받고 아직 append 하지 못한 유저가 있는 것이고, 같은 유저 락 안에서 바로 이어지므로 다시 모은다.
+        long watermark = idSequence.get();
+        while (true) {
+            List<PointHistory> result = new ArrayList<>();
+            for (AppendLog log : userLogMap.values()) {
+                log.collectUpTo(watermark, result);
+            }
+            if (result.size() == watermark) {
+                // 유저 로그는 각각 id 순서이므로 정렬은 로그들을 합치는 정도의 비용이다.
+                result.sort(Comparator.comparingLong(PointHistory::id));
+                return result;
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * 유저 락 안에서 한 번에 한 스레드만 쓰고, 여러 스레드가 락 없이 읽는 append 전용 로그
+     * - 쓰는 쪽은 배열을 채운 뒤 size 를 올리고, 읽는 쪽은 size 를 먼저 읽으므로 size 안쪽은 항상 채워져 있다.
+     * - 배열이 차면 새 배열로 복사하고, 이미 쓴 칸은 다시 바꾸지 않으므로 읽는 쪽은 복사 없이 view 를 만들 수 있다.
+     */
+    private static final class AppendLog {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private volatile PointHistory[] rows = new PointHistory[INITIAL_CAPACITY];
+        private volatile int size;
+
+        private void append(PointHistory pointHistory) {
+            PointHistory[] current = rows;
+            int index = size;
+            if (index == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                rows = current;
+            }
+            current[index] = pointHistory;
+            size = index + 1;
+        }
+
+        private List<PointHistory> view() {
+            int snapshotSize = size;
+            return Collections.unmodifiableList(Arrays.asList(rows).subList(0, snapshotSize));
+        }
+
+        // id 순서로 쌓이므로 watermark 를 넘는 행은 끝쪽에만 있다.
+        private void collectUpTo(long watermark, List<PointHistory> sink) {
+            int snapshotSize = size;
+            PointHistory[] snapshot = rows;
+            for (int i = 0; i < snapshotSize && snapshot[i].id() <= watermark; i++) {
+                sink.add(snapshot[i]);
+            }
+        }
+    }
+}
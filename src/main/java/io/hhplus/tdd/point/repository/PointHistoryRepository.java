@@ -9,4 +9,7 @@ public interface PointHistoryRepository {
     PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
 
     List<PointHistory> selectAllByUserId(long userId);
+
+    // 모든 유저의 내역을 insert 된 순서대로 조회
+    List<PointHistory> selectAll();
 }
@@ -1,26 +1,121 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.common.KnownUserFilter;
 import io.hhplus.tdd.point.domain.PointHistory;
 import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.jfr.PointTableEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Component
+@ConditionalOnProperty(prefix = "point.history", name = "storage", havingValue = "table", matchIfMissing = true)
 @RequiredArgsConstructor
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
 
+    private static final String TABLE = "PointHistoryTable";
+
     private final PointHistoryTable pointHistoryTable;
+    private final KnownUserFilter knownUserFilter;
+    // 테이블은 유저별 조회만 제공하므로, 전체 조회를 위해 insert 된 내역을 순서대로 따로 모아둔다.
+    // 테이블이 만든 객체를 그대로 가리키기만 하고, 락 없이 추가해 전체 조회가 쓰기를 막지 않는다.
+    private final InsertLog insertLog = new InsertLog();
 
     @Override
     public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
-        return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        knownUserFilter.add(userId);
+        PointHistory pointHistory;
+        PointTableEvent event = PointTableEvent.begin(TABLE, "insert", userId);
+        try {
+            pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        } finally {
+            PointTableEvent.end(event);
+        }
+        insertLog.add(pointHistory);
+        return pointHistory;
     }
 
     @Override
     public List<PointHistory> selectAllByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        if (!knownUserFilter.mightContain(userId)) {
+            return List.of();
+        }
+        PointTableEvent event = PointTableEvent.begin(TABLE, "selectAllByUserId", userId);
+        try {
+            return pointHistoryTable.selectAllByUserId(userId);
+        } finally {
+            PointTableEvent.end(event);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAll() {
+        return insertLog.snapshot();
+    }
+
+    /**
+     * 락 없이 덧붙이는 전체 조회용 로그
+     * - 행마다 노드를 만들지 않고 고정 크기 chunk 에 참조만 채우므로, 쓰기 경로의 할당은 chunk 를 나눠 가진 행당 몇 바이트다.
+     * - 자리는 AtomicLong 으로 먼저 받고 채우므로, 읽는 쪽은 받은 자리 수까지 채워지기를 기다렸다가 모은다.
+     *   자리를 받고 채우기까지는 배열에 쓰는 것뿐이라 기다림은 짧다.
+     */
+    private static final class InsertLog {
+        private static final int CHUNK_BITS = 10;
+        private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+        private final AtomicLong reserved = new AtomicLong();
+        private volatile AtomicReferenceArray<PointHistory>[] chunks = newChunks(16);
+
+        private void add(PointHistory pointHistory) {
+            long index = reserved.getAndIncrement();
+            chunk((int) (index >>> CHUNK_BITS)).set((int) (index & (CHUNK_SIZE - 1)), pointHistory);
+        }
+
+        private List<PointHistory> snapshot() {
+            long size = reserved.get();
+            List<PointHistory> rows = new ArrayList<>((int) size);
+            for (long index = 0; index < size; index++) {
+                AtomicReferenceArray<PointHistory> chunk = chunk((int) (index >>> CHUNK_BITS));
+                PointHistory row;
+                while ((row = chunk.get((int) (index & (CHUNK_SIZE - 1)))) == null) {
+                    Thread.onSpinWait();
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        private AtomicReferenceArray<PointHistory> chunk(int chunkIndex) {
+            AtomicReferenceArray<PointHistory>[] current = chunks;
+            if (chunkIndex < current.length && current[chunkIndex] != null) {
+                return current[chunkIndex];
+            }
+            return createChunk(chunkIndex);
+        }
+
+        private synchronized AtomicReferenceArray<PointHistory> createChunk(int chunkIndex) {
+            AtomicReferenceArray<PointHistory>[] current = chunks;
+            if (chunkIndex >= current.length) {
+                AtomicReferenceArray<PointHistory>[] grown = newChunks(Math.max(current.length * 2, chunkIndex + 1));
+                System.arraycopy(current, 0, grown, 0, current.length);
+                current = grown;
+            }
+            if (current[chunkIndex] == null) {
+                current[chunkIndex] = new AtomicReferenceArray<>(CHUNK_SIZE);
+            }
+            chunks = current;
+            return current[chunkIndex];
+        }
+
+        @SuppressWarnings("unchecked")
+        private static AtomicReferenceArray<PointHistory>[] newChunks(int length) {
+            return new AtomicReferenceArray[length];
+        }
     }
 }
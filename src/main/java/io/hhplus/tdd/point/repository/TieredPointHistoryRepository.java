@@ -0,0 +1,324 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.jfr.PointTableEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 시간 구간(segment) 단위로 나눠 저장하는 내역 저장소 (point.history.storage=tiered)
+ * - 최근 구간은 메모리(hot)에 유저별 인덱스와 함께 두고,
+ * - hot-days 보다 오래된 구간은 {@link ColdHistorySegment} 파일로 봉인해 힙에서 내린다.
+ * - retention-days 보다 오래된 구간은 삭제하고, 지운 내역의 유저별 합계는 이월 내역 하나로 남긴다. (0 이면 삭제하지 않음)
+ * 조회는 cold/hot 구간을 합쳐 id 순서로 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.history", name = "storage", havingValue = "tiered")
+public class TieredPointHistoryRepository implements PointHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredPointHistoryRepository.class);
+
+    private static final String TABLE = "PointHistoryTable";
+    private static final String SEGMENT_SUFFIX = ".hseg";
+
+    private final Path directory;
+    private final long segmentMillis;
+    private final long hotMillis;
+    private final long retentionMillis;
+    private final KnownUserFilter knownUserFilter;
+
+    private final AtomicLong idSequence = new AtomicLong();
+    private final AtomicLong fileSequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, HotSegment> hotSegments = new ConcurrentSkipListMap<>();
+    private final List<ColdHistorySegment> coldSegments = new ArrayList<>();
+    // 봉인/삭제로 구간이 옮겨지는 순간에만 write lock 을 잡아, 조회가 중복되거나 빠지지 않게 한다.
+    private final ReadWriteLock tierLock = new ReentrantReadWriteLock();
+
+    public TieredPointHistoryRepository(@Value("${point.history.cold-dir:data/history}") String directory,
+                                        @Value("${point.history.segment-hours:24}") long segmentHours,
+                                        @Value("${point.history.hot-days:90}") long hotDays,
+                                        @Value("${point.history.retention-days:0}") long retentionDays,
+                                        KnownUserFilter knownUserFilter) throws IOException {
+        this.directory = Path.of(directory);
+        this.segmentMillis = TimeUnit.HOURS.toMillis(segmentHours);
+        this.hotMillis = TimeUnit.DAYS.toMillis(hotDays);
+        this.retentionMillis = TimeUnit.DAYS.toMillis(retentionDays);
+        this.knownUserFilter = knownUserFilter;
+        loadColdSegments();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        knownUserFilter.add(userId);
+        PointTableEvent event = PointTableEvent.begin(TABLE, "insert", userId);
+        try {
+            return append(userId, amount, type, updateMillis);
+        } finally {
+            PointTableEvent.end(event);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        if (!knownUserFilter.mightContain(userId)) {
+            return List.of();
+        }
+        PointTableEvent event = PointTableEvent.begin(TABLE, "selectAllByUserId", userId);
+        try {
+            List<PointHistory> result = new ArrayList<>();
+            tierLock.readLock().lock();
+            try {
+                for (ColdHistorySegment segment : coldSegments) {
+                    result.addAll(segment.selectByUserId(userId));
+                }
+                for (HotSegment segment : hotSegments.values()) {
+                    segment.collect(userId, result);
+                }
+            } finally {
+                tierLock.readLock().unlock();
+            }
+            result.sort(Comparator.comparingLong(PointHistory::id));
+            return result;
+        } finally {
+            PointTableEvent.end(event);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAll() {
+        List<PointHistory> result = new ArrayList<>();
+        tierLock.readLock().lock();
+        try {
+            for (ColdHistorySegment segment : coldSegments) {
+                result.addAll(segment.selectAll());
+            }
+            for (HotSegment segment : hotSegments.values()) {
+                segment.collectAll(result);
+            }
+        } finally {
+            tierLock.readLock().unlock();
+        }
+        result.sort(Comparator.comparingLong(PointHistory::id));
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${point.history.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        try {
+            sealBefore(now - hotMillis);
+            if (retentionMillis > 0) {
+                deleteBefore(now - retentionMillis);
+            }
+        } catch (IOException e) {
+            log.error("history segment maintenance failed", e);
+        }
+    }
+
+    // cutoffMillis 전에 끝나는 hot 구간을 파일로 봉인한다.
+    public synchronized void sealBefore(long cutoffMillis) throws IOException {
+        for (HotSegment segment : hotSegments.headMap(segmentStart(cutoffMillis)).values()) {
+            List<PointHistory> rows = segment.seal();
+            ColdHistorySegment coldSegment = ColdHistorySegment.write(segmentPath(segment.segmentStart), segment.segmentStart, rows);
+            tierLock.writeLock().lock();
+            try {
+                // 봉인한 행은 cold 로, 봉인 중에 들어온 행은 이어받은 hot 구간으로 한 번에 옮긴다.
+                coldSegments.add(coldSegment);
+                coldSegments.sort(Comparator.comparingLong(ColdHistorySegment::segmentStart));
+                if (segment.successor.retireIfEmpty()) {
+                    hotSegments.remove(segment.segmentStart, segment);
+                } else {
+                    hotSegments.replace(segment.segmentStart, segment, segment.successor);
+                }
+            } finally {
+                tierLock.writeLock().unlock();
+            }
+            log.info("sealed history segment {} ({} rows)", coldSegment.path().getFileName(), rows.size());
+        }
+    }
+
+    // cutoffMillis 전에 끝나는 구간을 hot/cold 모두 삭제한다.
+    // 지운 행의 유저별 합계는 남는 첫 구간 시작 시각의 이월 내역으로 남겨, 유저 내역 합계가 포인트와 계속 맞게 한다.
+    public synchronized void deleteBefore(long cutoffMillis) throws IOException {
+        long cutoffSegment = segmentStart(cutoffMillis);
+        Map<Long, Long> carriedOver = new HashMap<>();
+        // hot 구간은 봉인부터 해서, 지우는 동안 들어온 행은 이어받은 구간에 남기고 다음 삭제에서 정리한다.
+        List<HotSegment> expiredHot = new ArrayList<>(hotSegments.headMap(cutoffSegment).values());
+        for (HotSegment segment : expiredHot) {
+            sumByUser(segment.seal(), carriedOver);
+        }
+        List<ColdHistorySegment> expiredCold = new ArrayList<>();
+        for (ColdHistorySegment segment : coldSegments) {
+            if (segment.segmentStart() < cutoffSegment) {
+                expiredCold.add(segment);
+                sumByUser(segment.selectAll(), carriedOver);
+            }
+        }
+
+        // 이월 내역을 쓰고 지운 구간을 빼는 것을 한 번에 해서, 조회하는 쪽에서는 합계가 바뀌는 순간이 보이지 않는다.
+        tierLock.writeLock().lock();
+        try {
+            carriedOver.forEach((userId, amount) -> {
+                if (amount != 0) {
+                    append(userId, Math.abs(amount), amount > 0 ? TransactionType.CHARGE : TransactionType.USE, cutoffSegment);
+                }
+            });
+            for (HotSegment segment : expiredHot) {
+                if (segment.successor.retireIfEmpty()) {
+                    hotSegments.remove(segment.segmentStart, segment);
+                } else {
+                    hotSegments.replace(segment.segmentStart, segment, segment.successor);
+                }
+            }
+            coldSegments.removeAll(expiredCold);
+        } finally {
+            tierLock.writeLock().unlock();
+        }
+        for (ColdHistorySegment segment : expiredCold) {
+            segment.delete();
+            log.info("deleted expired history segment {}", segment.path().getFileName());
+        }
+    }
+
+    public int hotSegmentCount() {
+        return hotSegments.size();
+    }
+
+    public int coldSegmentCount() {
+        tierLock.readLock().lock();
+        try {
+            return coldSegments.size();
+        } finally {
+            tierLock.readLock().unlock();
+        }
+    }
+
+    private void loadColdSegments() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                ColdHistorySegment segment = ColdHistorySegment.open(path);
+                coldSegments.add(segment);
+                idSequence.accumulateAndGet(segment.maxId(), Math::max);
+                for (long userId : segment.userIds()) {
+                    knownUserFilter.add(userId);
+                }
+            }
+        }
+        coldSegments.sort(Comparator.comparingLong(ColdHistorySegment::segmentStart));
+    }
+
+    private Path segmentPath(long segmentStart) {
+        String name = "segment-%d-%d-%d%s".formatted(segmentStart, System.currentTimeMillis(), fileSequence.incrementAndGet(), SEGMENT_SUFFIX);
+        return directory.resolve(name);
+    }
+
+    private PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(idSequence.incrementAndGet(), userId, amount, type, updateMillis);
+        long segmentStart = segmentStart(updateMillis);
+        // 봉인 중인 구간이면 그 구간을 이어받을 hot 구간에 넣으므로, 파일을 쓰는 동안 기다리지 않는다.
+        // 비어 있어 map 에서 빠진 구간에 넣으려 한 경우에만 다시 찾고, 그때는 새 구간이 만들어진다.
+        HotSegment segment;
+        do {
+            segment = hotSegments.computeIfAbsent(segmentStart, HotSegment::new);
+        } while (!segment.add(pointHistory));
+        return pointHistory;
+    }
+
+    private static void sumByUser(List<PointHistory> rows, Map<Long, Long> sums) {
+        for (PointHistory row : rows) {
+            sums.merge(row.userId(), row.type() == TransactionType.CHARGE ? row.amount() : -row.amount(), Long::sum);
+        }
+    }
+
+    private long segmentStart(long millis) {
+        return Math.floorDiv(millis, segmentMillis) * segmentMillis;
+    }
+
+    private static final class HotSegment {
+        private final long segmentStart;
+        private final List<PointHistory> rows = new ArrayList<>();
+        private final Map<Long, List<PointHistory>> rowsByUser = new HashMap<>();
+        // 봉인된 뒤에 들어오는 행을 받는 같은 시간대의 구간, 봉인 전에는 null
+        private volatile HotSegment successor;
+        // 비어 있는 채로 map 에서 빠졌으면 더 받지 않는다.
+        private boolean retired;
+
+        private HotSegment(long segmentStart) {
+            this.segmentStart = segmentStart;
+        }
+
+        // map 에서 빠진 구간이라 넣지 못하면 false
+        private boolean add(PointHistory pointHistory) {
+            HotSegment next;
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                next = successor;
+                if (next == null) {
+                    rows.add(pointHistory);
+                    rowsByUser.computeIfAbsent(pointHistory.userId(), k -> new ArrayList<>()).add(pointHistory);
+                    return true;
+                }
+            }
+            return next.add(pointHistory);
+        }
+
+        private synchronized boolean retireIfEmpty() {
+            retired = rows.isEmpty() && successor == null;
+            return retired;
+        }
+
+        // 봉인되어 아직 map 에 남아 있는 동안에는 이어받은 구간의 행까지 함께 돌려준다.
+        private void collect(long userId, List<PointHistory> sink) {
+            synchronized (this) {
+                List<PointHistory> userRows = rowsByUser.get(userId);
+                if (userRows != null) {
+                    sink.addAll(userRows);
+                }
+            }
+            HotSegment next = successor;
+            if (next != null) {
+                next.collect(userId, sink);
+            }
+        }
+
+        private void collectAll(List<PointHistory> sink) {
+            synchronized (this) {
+                sink.addAll(rows);
+            }
+            HotSegment next = successor;
+            if (next != null) {
+                next.collectAll(sink);
+            }
+        }
+
+        // 이후의 add 는 이어받을 구간으로 보내고 지금까지의 행을 넘긴다.
+        private synchronized List<PointHistory> seal() {
+            successor = new HotSegment(segmentStart);
+            return new ArrayList<>(rows);
+        }
+    }
+}
@@ -2,9 +2,14 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.domain.UserPoint;
 
+import java.util.List;
+
 public interface UserPointRepository {
 
-    UserPoint selectById(Long id);
+    UserPoint selectById(long id);
 
     UserPoint insertOrUpdate(long id, long amount);
+
+    // 포인트가 한 번이라도 기록된 모든 유저 id
+    List<Long> selectAllIds();
 }
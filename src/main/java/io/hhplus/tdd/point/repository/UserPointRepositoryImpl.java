@@ -1,23 +1,55 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.common.ConcurrentLongSet;
+import io.hhplus.tdd.point.common.KnownUserFilter;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.jfr.PointTableEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class UserPointRepositoryImpl implements UserPointRepository {
 
+    private static final String TABLE = "UserPointTable";
+
     private final UserPointTable userPointTable;
+    private final KnownUserFilter knownUserFilter;
+    // 테이블은 id 로만 조회할 수 있으므로, 검증에서 포인트가 있는 유저를 모두 훑을 수 있게 id 만 따로 모아둔다.
+    // 쓰기마다 호출되므로 박싱 없이 담고, 이미 있는 유저는 할당 없이 지나간다.
+    private final ConcurrentLongSet userIds = new ConcurrentLongSet();
 
     @Override
-    public UserPoint selectById(Long id) {
-        return userPointTable.selectById(id);
+    public UserPoint selectById(long id) {
+        // 한 번도 기록된 적 없는 유저는 테이블을 읽지 않고 빈 포인트를 돌려준다.
+        if (!knownUserFilter.mightContain(id)) {
+            return UserPoint.empty(id);
+        }
+        PointTableEvent event = PointTableEvent.begin(TABLE, "selectById", id);
+        try {
+            return userPointTable.selectById(id);
+        } finally {
+            PointTableEvent.end(event);
+        }
     }
 
     @Override
     public UserPoint insertOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        knownUserFilter.add(id);
+        userIds.add(id);
+        PointTableEvent event = PointTableEvent.begin(TABLE, "insertOrUpdate", id);
+        try {
+            return userPointTable.insertOrUpdate(id, amount);
+        } finally {
+            PointTableEvent.end(event);
+        }
+    }
+
+    @Override
+    public List<Long> selectAllIds() {
+        return userIds.toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.domain.PointChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@RequiredArgsConstructor
+public class PointChangeStreamService {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final int BATCH_SIZE = 256;
+
+    private final PointChangeFeed pointChangeFeed;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    //포인트 변경 구독, lastSequence 가 있으면 그 다음 변경부터 이어서 보낸다.
+    public SseEmitter subscribe(Long lastSequence) {
+        return subscribe(new SseEmitter(TIMEOUT_MILLIS), lastSequence);
+    }
+
+    // 테스트에서 보낸 이벤트를 확인할 수 있도록 emitter 를 받는다.
+    SseEmitter subscribe(SseEmitter emitter, Long lastSequence) {
+        // 변경은 유저마다 내역을 쓴 뒤에 발행되므로 내역 id 순서가 아니다. 이어받기는 발행 순서인 sequence 로 한다.
+        long cursor = lastSequence == null
+                ? pointChangeFeed.headSequence()
+                : pointChangeFeed.sequenceAfter(lastSequence);
+        Subscription subscription = new Subscription(emitter, cursor);
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    // 구독자마다 이전 전송이 끝난 경우에만 새로 전송을 맡겨, 느린 구독자가 다른 구독자를 막지 않게 한다.
+    @Scheduled(fixedDelayString = "${point.change-feed.dispatch-interval-ms:50}")
+    public void dispatch() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.busy.compareAndSet(false, true)) {
+                executorService.execute(() -> {
+                    try {
+                        send(subscription);
+                    } finally {
+                        subscription.busy.set(false);
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private void send(Subscription subscription) {
+        SseEmitter emitter = subscription.emitter;
+        try {
+            skipOverwritten(subscription);
+            long head = pointChangeFeed.headSequence();
+            int sent = 0;
+            while (subscription.cursor < head && sent < BATCH_SIZE) {
+                PointChangeEvent event = pointChangeFeed.get(subscription.cursor);
+                if (event == null) {
+                    // 아직 쓰는 중이면 다음 전송 때 다시 읽고, 덮어쓰였으면 건너뛴다.
+                    if (!skipOverwritten(subscription)) {
+                        break;
+                    }
+                    continue;
+                }
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.sequence()))
+                        .name("point-change")
+                        .data(event));
+                subscription.cursor++;
+                sent++;
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriptions.remove(subscription);
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 구독자가 링 버퍼 크기보다 뒤처졌으면 유실된 건수를 알리고 가장 오래된 이벤트로 이동
+    private boolean skipOverwritten(Subscription subscription) throws IOException {
+        long tail = pointChangeFeed.tailSequence();
+        if (subscription.cursor >= tail) {
+            return false;
+        }
+        subscription.emitter.send(SseEmitter.event()
+                .name("gap")
+                .data(tail - subscription.cursor));
+        subscription.cursor = tail;
+        return true;
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private long cursor;
+
+        private Subscription(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.domain.PointDrift;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.ReconciliationReport;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+
+/**
+ * 유저 포인트가 내역 합계(CHARGE - USE)와 일치하는지 검증한다.
+ * 1. 전체 내역을 한 번만 훑으면서 ForkJoinPool 로 유저별 합계를 나눠서 구한다.
+ *    내역이 없는 유저도 포인트가 있으면 잡아내도록, 포인트가 기록된 유저는 합계 0 으로 함께 검증한다.
+ * 2. 유저별로 포인트를 조회해 합계와 비교하고, 다른 경우에만 유저 락 안에서 다시 확인해 진행 중인 쓰기로 인한 오탐을 거른다.
+ * 포인트 조회는 초당 횟수를 제한하고 전용 pool 의 병렬도도 낮게 둬서 실제 요청을 밀어내지 않게 한다.
+ */
+@Service
+public class PointReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointReconciliationService.class);
+
+    private static final int AGGREGATE_THRESHOLD = 10_000;
+    private static final int CHECK_THRESHOLD = 64;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final LockHelper lockHelper;
+    private final ForkJoinPool forkJoinPool;
+    private final long balanceReadIntervalNanos;
+
+    private final AtomicLong nextBalanceReadNanos = new AtomicLong();
+    private final AtomicLong jobSequence = new AtomicLong();
+    private volatile Job currentJob;
+
+    public PointReconciliationService(UserPointRepository userPointRepository,
+                                      PointHistoryRepository pointHistoryRepository,
+                                      LockHelper lockHelper,
+                                      @Value("${point.reconciliation.parallelism:2}") int parallelism,
+                                      @Value("${point.reconciliation.max-balance-reads-per-second:50}") int maxBalanceReadsPerSecond) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.lockHelper = lockHelper;
+        this.forkJoinPool = new ForkJoinPool(parallelism);
+        this.balanceReadIntervalNanos = maxBalanceReadsPerSecond > 0
+                ? TimeUnit.SECONDS.toNanos(1) / maxBalanceReadsPerSecond
+                : 0L;
+    }
+
+    //검증 시작, 이미 진행 중이면 진행 중인 검증의 현황을 반환
+    public synchronized ReconciliationReport start() {
+        Job job = currentJob;
+        if (job != null && job.status == ReconciliationReport.Status.RUNNING) {
+            return job.report();
+        }
+        Job newJob = new Job(jobSequence.incrementAndGet());
+        currentJob = newJob;
+        forkJoinPool.execute(() -> run(newJob));
+        return newJob.report();
+    }
+
+    //가장 최근 검증의 현황, 한 번도 실행하지 않았으면 null
+    public ReconciliationReport getReport() {
+        Job job = currentJob;
+        return job == null ? null : job.report();
+    }
+
+    //검증을 현재 스레드에서 끝까지 실행
+    public ReconciliationReport reconcile() {
+        Job job = new Job(jobSequence.incrementAndGet());
+        currentJob = job;
+        run(job);
+        return job.report();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    private void run(Job job) {
+        try {
+            List<PointHistory> histories = pointHistoryRepository.selectAll();
+            job.historyRows = histories.size();
+            Map<Long, Long> expectedPoints = forkJoinPool.invoke(new AggregateTask(histories, 0, histories.size()));
+            for (Long userId : userPointRepository.selectAllIds()) {
+                expectedPoints.putIfAbsent(userId, 0L);
+            }
+
+            long[] userIds = new long[expectedPoints.size()];
+            long[] expected = new long[expectedPoints.size()];
+            int index = 0;
+            for (Map.Entry<Long, Long> entry : expectedPoints.entrySet()) {
+                userIds[index] = entry.getKey();
+                expected[index] = entry.getValue();
+                index++;
+            }
+            job.totalUsers = userIds.length;
+            forkJoinPool.invoke(new CheckTask(job, userIds, expected, 0, userIds.length));
+
+            job.finish(ReconciliationReport.Status.COMPLETED, null);
+            log.info("point reconciliation {} finished: users={}, drifts={}", job.jobId, job.totalUsers, job.drifts.size());
+        } catch (RuntimeException e) {
+            log.error("point reconciliation {} failed", job.jobId, e);
+            job.finish(ReconciliationReport.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private void checkUser(Job job, long userId, long expectedPoint) {
+        throttle();
+        long point = userPointRepository.selectById(userId).point();
+        if (point != expectedPoint) {
+            // 내역을 읽은 뒤 반영된 쓰기 때문일 수 있으므로, 락 안에서 다시 계산한다.
+            PointDrift drift = lockHelper.executeWithLock(userId, () -> {
+                long lockedPoint = userPointRepository.selectById(userId).point();
+                long lockedExpected = sum(pointHistoryRepository.selectAllByUserId(userId));
+                return lockedPoint == lockedExpected ? null : new PointDrift(userId, lockedPoint, lockedExpected);
+            });
+            if (drift != null) {
+                job.drifts.add(drift);
+            }
+        }
+        job.checkedUsers.incrementAndGet();
+    }
+
+    private void throttle() {
+        if (balanceReadIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = nextBalanceReadNanos.getAndUpdate(next -> Math.max(next, now) + balanceReadIntervalNanos);
+        long wait = slot - now;
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private static long sum(List<PointHistory> histories) {
+        long sum = 0;
+        for (PointHistory history : histories) {
+            sum += signedAmount(history);
+        }
+        return sum;
+    }
+
+    private static long signedAmount(PointHistory history) {
+        return history.type() == CHARGE ? history.amount() : -history.amount();
+    }
+
+    // 내역 구간을 나눠 유저별 합계를 구하고, 작은 쪽 결과를 큰 쪽에 합친다.
+    private static final class AggregateTask extends RecursiveTask<Map<Long, Long>> {
+
+        private final List<PointHistory> histories;
+        private final int from;
+        private final int to;
+
+        private AggregateTask(List<PointHistory> histories, int from, int to) {
+            this.histories = histories;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, Long> compute() {
+            if (to - from <= AGGREGATE_THRESHOLD) {
+                Map<Long, Long> sums = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    PointHistory history = histories.get(i);
+                    sums.merge(history.userId(), signedAmount(history), Long::sum);
+                }
+                return sums;
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(histories, from, middle);
+            left.fork();
+            Map<Long, Long> right = new AggregateTask(histories, middle, to).compute();
+            Map<Long, Long> leftResult = left.join();
+            Map<Long, Long> larger = leftResult.size() >= right.size() ? leftResult : right;
+            Map<Long, Long> smaller = larger == leftResult ? right : leftResult;
+            smaller.forEach((userId, amount) -> larger.merge(userId, amount, Long::sum));
+            return larger;
+        }
+    }
+
+    private final class CheckTask extends RecursiveAction {
+
+        private final Job job;
+        private final long[] userIds;
+        private final long[] expected;
+        private final int from;
+        private final int to;
+
+        private CheckTask(Job job, long[] userIds, long[] expected, int from, int to) {
+            this.job = job;
+            this.userIds = userIds;
+            this.expected = expected;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHECK_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    checkUser(job, userIds[i], expected[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CheckTask(job, userIds, expected, from, middle),
+                    new CheckTask(job, userIds, expected, middle, to));
+        }
+    }
+
+    private static final class Job {
+        private final long jobId;
+        private final long startedMillis = System.currentTimeMillis();
+        private final AtomicLong checkedUsers = new AtomicLong();
+        private final ConcurrentLinkedQueue<PointDrift> drifts = new ConcurrentLinkedQueue<>();
+        private volatile ReconciliationReport.Status status = ReconciliationReport.Status.RUNNING;
+        private volatile long historyRows;
+        private volatile long totalUsers;
+        private volatile long finishedMillis;
+        private volatile String failure;
+
+        private Job(long jobId) {
+            this.jobId = jobId;
+        }
+
+        private void finish(ReconciliationReport.Status status, String failure) {
+            this.finishedMillis = System.currentTimeMillis();
+            this.failure = failure;
+            this.status = status;
+        }
+
+        private ReconciliationReport report() {
+            return new ReconciliationReport(jobId, status, historyRows, totalUsers, checkedUsers.get(),
+                    new ArrayList<>(drifts), startedMillis, finishedMillis, failure);
+        }
+    }
+}
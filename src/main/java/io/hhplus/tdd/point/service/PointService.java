@@ -1,49 +1,185 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.common.FanOutHelper;
+import io.hhplus.tdd.point.common.HotKeyDetector;
 import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.common.PointVersionMap;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.domain.PointBatch;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryBatch;
+import io.hhplus.tdd.point.domain.PointRestore;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
-import io.hhplus.tdd.point.enums.TransactionType;
-import io.hhplus.tdd.point.exception.ErrorCode;
 import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.jfr.PointOperationEvent;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.Map;
+import java.util.Set;
 
 import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
 import static io.hhplus.tdd.point.enums.TransactionType.USE;
 import static io.hhplus.tdd.point.exception.ErrorCode.INVALID_CHARGE_POINT;
 import static io.hhplus.tdd.point.exception.ErrorCode.NOT_ENOUGH_POINT;
+import static io.hhplus.tdd.point.exception.ErrorCode.SAME_USER_TRANSFER;
+import static io.hhplus.tdd.point.exception.ErrorCode.TOO_MANY_USERS;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final PointException INVALID_CHARGE_AMOUNT = new PointException(INVALID_CHARGE_POINT, "0보다 작은 포인트는 충전되지 않습니다.");
+    private static final PointException INVALID_USE_AMOUNT = new PointException(INVALID_CHARGE_POINT, "0보다 작은 포인트는 사용할 수 없습니다.");
+    private static final PointException INVALID_TRANSFER_AMOUNT = new PointException(INVALID_CHARGE_POINT, "0보다 작은 포인트는 전송할 수 없습니다.");
+    private static final PointException NOT_ENOUGH_POINT_EXCEPTION = new PointException(NOT_ENOUGH_POINT, "포인트가 부족합니다.");
+    private static final PointException SAME_USER_TRANSFER_EXCEPTION = new PointException(SAME_USER_TRANSFER, "같은 유저에게는 포인트를 전송할 수 없습니다.");
+    // 한 배치가 point.batch 기본값(스레드 32개, 마감 1000ms) 안에 끝날 수 있는 유저 수
+    public static final int MAX_BATCH_USERS = 100;
+    private static final PointException TOO_MANY_USERS_EXCEPTION = new PointException(TOO_MANY_USERS, "한 번에 %d명까지 조회할 수 있습니다.".formatted(MAX_BATCH_USERS));
+
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
     private final LockHelper lockHelper;
+    private final SingleFlightHelper singleFlightHelper;
+    private final HotKeyDetector hotKeyDetector;
+    private final ChargeAccumulator chargeAccumulator;
+    private final PointChangeFeed pointChangeFeed;
+    private final PointVersionMap pointVersionMap;
+    private final FanOutHelper fanOutHelper;
+
+    // 매 요청마다 람다를 만들지 않도록 락 안에서 실행할 동작을 미리 만들어둔다.
+    private final LockHelper.LockedOperation<UserPoint> chargeOperation = this::chargeWithLock;
+    private final LockHelper.LockedOperation<UserPoint> useOperation = this::useWithLock;
+    private final LockHelper.LockedOperation<UserPoint> hotChargeOperation = this::hotChargeWithLock;
+    // JFR 이벤트로 감쌀 요청 본문도 같은 이유로 미리 만들어둔다.
+    private final PointOperationEvent.Action<UserPoint> getPointAction = (id, targetId, amount) -> getPointInternal(id);
+    private final PointOperationEvent.Action<UserPoint> chargeAction = (id, targetId, amount) -> chargeInternal(id, amount);
+    private final PointOperationEvent.Action<UserPoint> useAction = (id, targetId, amount) -> useInternal(id, amount);
+    private final PointOperationEvent.Action<PointTransfer> transferAction = this::transferInternal;
 
     //포인트 조회
     public UserPoint getPoint(long id) {
-        return userPointRepository.selectById(id);
+        return PointOperationEvent.record(PointOperationEvent.GET, id, 0L, 0L, getPointAction);
+    }
+
+    private UserPoint getPointInternal(long id) {
+        // hot 유저는 마지막 반영 포인트에 아직 반영되지 않은 충전분을 더해서 보여준다.
+        // 테이블 값과 누적분을 따로 읽으면 반영 도중에 누적분이 두 번 더해질 수 있어 함께 읽는다.
+        UserPoint accumulated = chargeAccumulator.current(id);
+        if (accumulated != null) {
+            return accumulated;
+        }
+        // 같은 유저에 대한 동시 조회는 하나의 테이블 조회 결과를 공유한다.
+        return singleFlightHelper.execute(id, () -> userPointRepository.selectById(id));
+    }
+
+    //여러 유저 포인트 조회 - 중복을 제거하고 나눠서 조회하며, 마감까지 조회하지 못한 유저는 따로 돌려준다.
+    public PointBatch getPoints(Collection<Long> ids) {
+        FanOutHelper.Result<UserPoint> result = fanOutHelper.execute(batchIds(ids), this::getPoint);
+        return new PointBatch(result.results(), result.unresolvedIds());
+    }
+
+    //여러 유저 포인트 내역 조회 - 포인트와 같이 나눠서 조회하고, 마감까지 조회하지 못한 유저는 따로 돌려준다.
+    public PointHistoryBatch getHistories(Collection<Long> ids) {
+        FanOutHelper.Result<Map.Entry<Long, List<PointHistory>>> result =
+                fanOutHelper.execute(batchIds(ids), id -> Map.entry(id, getHistory(id)));
+        Map<Long, List<PointHistory>> histories = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<PointHistory>> entry : result.results()) {
+            histories.put(entry.getKey(), entry.getValue());
+        }
+        return new PointHistoryBatch(histories, result.unresolvedIds());
+    }
+
+    //포인트 조회 검증값 - 조회보다 먼저 만들어야 응답보다 새 값이 되지 않는다.
+    public String getPointETag(long id) {
+        return pointVersionMap.eTag(id, chargeAccumulator.pending(id));
+    }
+
+    //포인트 조회 마지막 변경 시각 - 아직 반영되지 않은 충전이 있으면 시각으로는 구분할 수 없어 쓰지 않는다.
+    public long getPointLastModified(long id) {
+        if (chargeAccumulator.pending(id) != 0) {
+            return -1L;
+        }
+        return pointVersionMap.lastModified(id);
     }
 
     //포인트 충전
     public UserPoint charge(long id, long amount) {
-        validateAmount(amount, INVALID_CHARGE_POINT, "0보다 작은 포인트는 충전되지 않습니다.");
-        return executeWithLockAndUpdate(id, amount, CHARGE, this::addPoints);
+        return PointOperationEvent.record(PointOperationEvent.CHARGE, id, 0L, amount, chargeAction);
+    }
+
+    private UserPoint chargeInternal(long id, long amount) {
+        validateAmount(amount, INVALID_CHARGE_AMOUNT);
+        if (!hotKeyDetector.recordAndCheck(id)) {
+            return lockHelper.executeWithLock(id, amount, chargeOperation);
+        }
+        // hot 유저의 충전은 락을 잡지 않고 누적해뒀다가 주기적으로 반영한다.
+        if (chargeAccumulator.isAccumulating(id)) {
+            return chargeAccumulator.accumulate(id, amount);
+        }
+        return lockHelper.executeWithLock(id, amount, hotChargeOperation);
     }
 
     //포인트 사용
     public UserPoint use(long id, long amount) {
-        validateAmount(amount, INVALID_CHARGE_POINT, "0보다 작은 포인트는 사용할 수 없습니다.");
-        return executeWithLockAndUpdate(id, amount, USE, this::subtractPoints);
+        return PointOperationEvent.record(PointOperationEvent.USE, id, 0L, amount, useAction);
+    }
+
+    private UserPoint useInternal(long id, long amount) {
+        validateAmount(amount, INVALID_USE_AMOUNT);
+        return lockHelper.executeWithLock(id, amount, useOperation);
+    }
+
+    //포인트 전송
+    public PointTransfer transfer(long fromId, long toId, long amount) {
+        return PointOperationEvent.record(PointOperationEvent.TRANSFER, fromId, toId, amount, transferAction);
+    }
+
+    private PointTransfer transferInternal(long fromId, long toId, long amount) {
+        validateAmount(amount, INVALID_TRANSFER_AMOUNT);
+        if (fromId == toId) {
+            throw SAME_USER_TRANSFER_EXCEPTION;
+        }
+        return lockHelper.executeWithLocks(fromId, toId, () -> {
+            UserPoint fromUser = applyAccumulatedCharges(fromId, userPointRepository.selectById(fromId));
+            UserPoint toUser = applyAccumulatedCharges(toId, userPointRepository.selectById(toId));
+            UserPoint updatedFrom = subtractPoints(fromUser, amount);
+            UserPoint updatedTo = addPoints(toUser, amount);
+            long now = System.currentTimeMillis();
+            commit(updatedFrom, pointHistoryRepository.insert(fromId, amount, USE, now));
+            commit(updatedTo, pointHistoryRepository.insert(toId, amount, CHARGE, now));
+            return new PointTransfer(updatedFrom, updatedTo);
+        });
+    }
+
+    //덤프에서 읽은 포인트와 내역 적재 - 일반 쓰기와 같은 commit 경로를 거쳐 버전 맵과 변경 피드에도 반영한다.
+    public UserPoint restore(PointRestore restore) {
+        long id = restore.userId();
+        return lockHelper.executeWithLock(id, () -> {
+            UserPoint restoredUser = userPointRepository.insertOrUpdate(id, restore.point());
+            // 내역마다 그 시점의 포인트를 함께 발행하고, 마지막 내역에서 적재한 포인트가 되게 한다.
+            long point = restore.point();
+            for (PointRestore.History history : restore.histories()) {
+                point -= history.signedAmount();
+            }
+            for (PointRestore.History history : restore.histories()) {
+                point += history.signedAmount();
+                UserPoint userPoint = new UserPoint(id, point, restoredUser.updateMillis());
+                commit(userPoint, pointHistoryRepository.insert(id, history.amount(), history.type(), history.updateMillis()));
+            }
+            return restoredUser;
+        });
     }
 
     //포인트 내역 조회
@@ -51,9 +187,41 @@ public class PointService {
         return pointHistoryRepository.selectAllByUserId(id);
     }
 
-    private void validateAmount(long amount, ErrorCode errorCode, String errorMessage) {
+    //포인트 내역 조회 검증값 - 누적 중인 충전은 아직 내역에 없으므로 포함하지 않는다.
+    public String getHistoryETag(long id) {
+        return pointVersionMap.eTag(id, 0L);
+    }
+
+    //포인트 내역 조회 마지막 변경 시각
+    public long getHistoryLastModified(long id) {
+        return pointVersionMap.lastModified(id);
+    }
+
+    //hot 유저의 누적된 충전 반영
+    @Scheduled(fixedDelayString = "${point.hot-user.flush-interval-ms:200}")
+    public void flushAccumulatedCharges() {
+        for (Long id : chargeAccumulator.accumulatingIds()) {
+            if (chargeAccumulator.pending(id) == 0) {
+                continue;
+            }
+            lockHelper.executeWithLock(id, () -> {
+                applyAccumulatedCharges(id, userPointRepository.selectById(id));
+            });
+        }
+    }
+
+    private Set<Long> batchIds(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+        if (uniqueIds.size() > MAX_BATCH_USERS) {
+            throw TOO_MANY_USERS_EXCEPTION;
+        }
+        return uniqueIds;
+    }
+
+    private void validateAmount(long amount, PointException exception) {
         if (!isValidPoint(amount)) {
-            throw new PointException(errorCode, errorMessage);
+            throw exception;
         }
     }
 
@@ -61,13 +229,46 @@ public class PointService {
         return amount >= 0;
     }
 
-    private UserPoint executeWithLockAndUpdate(long id, long amount, TransactionType type, BiFunction<UserPoint, Long, UserPoint> operation) {
-        return lockHelper.executeWithLock(id, () -> {
-            UserPoint curUser = userPointRepository.selectById(id);
-            UserPoint updatedUser = operation.apply(curUser, amount);
-            pointHistoryRepository.insert(id, amount, type, System.currentTimeMillis());
-            return updatedUser;
-        });
+    // 락 안에서만 호출한다.
+    private UserPoint chargeWithLock(long id, long amount) {
+        UserPoint curUser = applyAccumulatedCharges(id, userPointRepository.selectById(id));
+        UserPoint updatedUser = addPoints(curUser, amount);
+        commit(updatedUser, pointHistoryRepository.insert(id, amount, CHARGE, System.currentTimeMillis()));
+        return updatedUser;
+    }
+
+    // 락 안에서만 호출한다. 누적의 기준이 되는 포인트는 다른 쓰기가 끼어들기 전에 같은 락 안에서 정한다.
+    private UserPoint hotChargeWithLock(long id, long amount) {
+        UserPoint updatedUser = chargeWithLock(id, amount);
+        chargeAccumulator.start(updatedUser);
+        return updatedUser;
+    }
+
+    // 락 안에서만 호출한다. 누적된 충전을 먼저 반영해야 잔액 검사가 정확하다.
+    private UserPoint useWithLock(long id, long amount) {
+        UserPoint curUser = applyAccumulatedCharges(id, userPointRepository.selectById(id));
+        UserPoint updatedUser = subtractPoints(curUser, amount);
+        commit(updatedUser, pointHistoryRepository.insert(id, amount, USE, System.currentTimeMillis()));
+        return updatedUser;
+    }
+
+    // 락 안에서만 호출한다. 누적된 충전은 하나의 충전 내역으로 합쳐서 남긴다.
+    private UserPoint applyAccumulatedCharges(long id, UserPoint curUser) {
+        long pending = chargeAccumulator.pending(id);
+        if (pending == 0) {
+            return curUser;
+        }
+        UserPoint updatedUser = userPointRepository.insertOrUpdate(id, curUser.point() + pending);
+        chargeAccumulator.settle(updatedUser, pending);
+        commit(updatedUser, pointHistoryRepository.insert(id, pending, CHARGE, System.currentTimeMillis()));
+        return updatedUser;
+    }
+
+    // 락 안에서 반영이 끝난 변경을 누적 기준, 버전 맵, 변경 피드에 알린다.
+    private void commit(UserPoint updatedUser, PointHistory history) {
+        chargeAccumulator.commit(updatedUser);
+        pointVersionMap.update(updatedUser, history);
+        pointChangeFeed.publish(history, updatedUser);
     }
 
     private UserPoint addPoints(UserPoint user, long amount) {
@@ -76,7 +277,7 @@ public class PointService {
 
     private UserPoint subtractPoints(UserPoint user, long amount) {
         if (!hasEnoughPoints(user, amount)) {
-            throw new PointException(NOT_ENOUGH_POINT, "포인트가 부족합니다.");
+            throw NOT_ENOUGH_POINT_EXCEPTION;
         }
         return userPointRepository.insertOrUpdate(user.id(), user.point() - amount);
     }
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.domain.PointRestore;
+import io.hhplus.tdd.point.enums.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 덤프 파일로부터 포인트와 최근 내역을 미리 적재한다.
+ * ApplicationRunner 는 ApplicationReadyEvent(ReadinessState.ACCEPTING_TRAFFIC) 전에 실행되므로,
+ * 적재가 끝나기 전에는 readiness 가 올라가지 않는다.
+ *
+ * 덤프 파일 형식 (한 줄에 하나)
+ * - P,userId,point
+ * - H,userId,amount,CHARGE|USE,updateMillis
+ *
+ * 보관 기간보다 오래된 내역은 적재하지 않으므로, 그 합계를 보관 기간 시작 시각의 이월 내역 하나로 남겨
+ * 내역 합계가 포인트와 맞게 한다. P 가 없는 유저의 포인트는 0 으로 본다.
+ * 적재는 PointService 의 commit 경로를 거치므로 버전 맵과 변경 피드에도 적재한 포인트가 반영된다.
+ * 테이블은 여러 스레드가 함께 쓰면 행을 잃거나 내역 id 가 겹칠 수 있으므로, 적재는 한 스레드에서만 쓴다.
+ */
+@Service
+public class PointWarmUpService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmUpService.class);
+
+    private final PointService pointService;
+    private final String dumpFile;
+    private final long historyRetentionMillis;
+
+    private volatile WarmUpResult lastResult;
+
+    public PointWarmUpService(PointService pointService,
+                              @Value("${point.warm-up.dump-file:}") String dumpFile,
+                              @Value("${point.warm-up.history-days:90}") long historyDays) {
+        this.pointService = pointService;
+        this.dumpFile = dumpFile;
+        this.historyRetentionMillis = TimeUnit.DAYS.toMillis(historyDays);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (dumpFile.isBlank()) {
+            return;
+        }
+        WarmUpResult result = load(Path.of(dumpFile));
+        log.info("point warm-up finished: users={}, histories={}, elapsed={}ms, throughput={} records/s, timeToReady={}ms",
+                result.users(), result.histories(), result.elapsedMillis(), result.recordsPerSecond(),
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    public WarmUpResult getLastResult() {
+        return lastResult;
+    }
+
+    public WarmUpResult load(Path path) throws IOException {
+        long start = System.nanoTime();
+        long historyFrom = System.currentTimeMillis() - historyRetentionMillis;
+        Map<Long, UserDump> users = readUsers(path, historyFrom);
+
+        // 한 유저의 데이터는 유저 락 안에서 한 번에 적재해 실제 쓰기 경로와 같은 순서를 보장한다.
+        long histories = 0;
+        for (Map.Entry<Long, UserDump> entry : users.entrySet()) {
+            PointRestore restore = toRestore(entry.getKey(), entry.getValue(), historyFrom);
+            pointService.restore(restore);
+            histories += restore.histories().size();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastResult = new WarmUpResult(users.size(), histories, elapsedMillis);
+        return lastResult;
+    }
+
+    private Map<Long, UserDump> readUsers(Path path, long historyFrom) throws IOException {
+        Map<Long, UserDump> users = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                long userId = Long.parseLong(fields[1]);
+                UserDump userDump = users.computeIfAbsent(userId, k -> new UserDump());
+                switch (fields[0]) {
+                    case "P" -> userDump.point = Long.parseLong(fields[2]);
+                    case "H" -> {
+                        long updateMillis = Long.parseLong(fields[4]);
+                        if (updateMillis >= historyFrom) {
+                            userDump.histories.add(new PointRestore.History(Long.parseLong(fields[2]), TransactionType.valueOf(fields[3]), updateMillis));
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("알 수 없는 덤프 레코드입니다: " + line);
+                }
+            }
+        }
+        return users;
+    }
+
+    // 적재하지 않는 오래된 내역의 합계(포인트 - 최근 내역 합계)를 이월 내역으로 맨 앞에 둔다.
+    private static PointRestore toRestore(long userId, UserDump userDump, long historyFrom) {
+        long point = userDump.point == null ? 0L : userDump.point;
+        long carriedOver = point;
+        for (PointRestore.History history : userDump.histories) {
+            carriedOver -= history.signedAmount();
+        }
+        if (carriedOver == 0) {
+            return new PointRestore(userId, point, userDump.histories);
+        }
+        List<PointRestore.History> histories = new ArrayList<>(userDump.histories.size() + 1);
+        histories.add(carriedOver > 0
+                ? new PointRestore.History(carriedOver, TransactionType.CHARGE, historyFrom)
+                : new PointRestore.History(-carriedOver, TransactionType.USE, historyFrom));
+        histories.addAll(userDump.histories);
+        return new PointRestore(userId, point, histories);
+    }
+
+    public record WarmUpResult(long users, long histories, long elapsedMillis) {
+
+        public long recordsPerSecond() {
+            return elapsedMillis == 0 ? users + histories : (users + histories) * 1000 / elapsedMillis;
+        }
+    }
+
+    private static final class UserDump {
+        private Long point;
+        private final List<PointRestore.History> histories = new ArrayList<>();
+    }
+}
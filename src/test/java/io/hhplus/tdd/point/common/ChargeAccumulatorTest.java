@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.common;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChargeAccumulatorTest {
+
+    @DisplayName("누적된 충전 금액은 기준 포인트에 더해서 보여준다.")
+    @Test
+    void accumulate() {
+        //given
+        ChargeAccumulator chargeAccumulator = new ChargeAccumulator();
+        long userId = 1L;
+        chargeAccumulator.start(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+
+        //when
+        chargeAccumulator.accumulate(userId, 100L);
+        UserPoint result = chargeAccumulator.accumulate(userId, 200L);
+
+        //then
+        assertThat(result.point()).isEqualTo(1300L);
+        assertThat(chargeAccumulator.pending(userId)).isEqualTo(300L);
+    }
+
+    @DisplayName("누적되는 도중에 반영해도, 반영한 금액만 빠지고 그 사이 누적된 충전은 남는다.")
+    @Test
+    void settleWhenConcurrencyEnv() throws InterruptedException {
+        //given
+        ChargeAccumulator chargeAccumulator = new ChargeAccumulator();
+        long userId = 2L;
+        int numThreads = 8;
+        int chargesPerThread = 10_000;
+        chargeAccumulator.start(new UserPoint(userId, 0L, System.currentTimeMillis()));
+
+        CountDownLatch doneSignal = new CountDownLatch(numThreads);
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+
+        //when
+        long settled = 0;
+        for (int i = 0; i < numThreads; i++) {
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < chargesPerThread; j++) {
+                        chargeAccumulator.accumulate(userId, 1L);
+                    }
+                } finally {
+                    doneSignal.countDown();
+                }
+            });
+        }
+        while (doneSignal.getCount() > 0) {
+            settled += settle(chargeAccumulator, userId, settled);
+        }
+        settled += settle(chargeAccumulator, userId, settled);
+        executorService.shutdown();
+
+        //then
+        assertThat(settled).isEqualTo((long) numThreads * chargesPerThread);
+        assertThat(chargeAccumulator.pending(userId)).isZero();
+    }
+
+    @DisplayName("반영한 금액만 누적분에서 빠지고, 반영된 포인트가 예상 포인트의 기준이 된다.")
+    @Test
+    void settle() {
+        //given
+        ChargeAccumulator chargeAccumulator = new ChargeAccumulator();
+        long userId = 4L;
+        chargeAccumulator.start(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+        chargeAccumulator.accumulate(userId, 300L);
+        long pending = chargeAccumulator.pending(userId);
+        // 테이블에 쓰는 사이에 들어온 충전
+        chargeAccumulator.accumulate(userId, 50L);
+
+        //when
+        chargeAccumulator.settle(new UserPoint(userId, 1000L + pending, System.currentTimeMillis()), pending);
+
+        //then
+        assertThat(chargeAccumulator.pending(userId)).isEqualTo(50L);
+        assertThat(chargeAccumulator.accumulate(userId, 0L).point()).isEqualTo(1350L);
+    }
+
+    @DisplayName("반영하는 도중에 읽어도 누적분이 두 번 더해진 포인트는 보이지 않는다.")
+    @Test
+    void readWhileSettling() throws Exception {
+        //given
+        ChargeAccumulator chargeAccumulator = new ChargeAccumulator();
+        long userId = 5L;
+        int settles = 200_000;
+        chargeAccumulator.start(new UserPoint(userId, 0L, System.currentTimeMillis()));
+        AtomicLong charged = new AtomicLong();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        //when
+        Future<Long> overCounted = executorService.submit(() -> {
+            long count = 0;
+            while (!done.get()) {
+                // 읽기 전에 받은 충전보다 큰 포인트가 보이면 누적분이 두 번 더해진 것이다.
+                long point = chargeAccumulator.current(userId).point();
+                if (point > charged.get()) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        for (int i = 0; i < settles; i++) {
+            charged.incrementAndGet();
+            chargeAccumulator.accumulate(userId, 1L);
+            settle(chargeAccumulator, userId, i);
+        }
+        done.set(true);
+        long overCountedReads = overCounted.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(overCountedReads).isZero();
+        assertThat(chargeAccumulator.current(userId).point()).isEqualTo(settles);
+    }
+
+    @DisplayName("누적을 시작하지 않은 유저는 누적 금액이 없다.")
+    @Test
+    void notAccumulating() {
+        //given
+        ChargeAccumulator chargeAccumulator = new ChargeAccumulator();
+
+        //when //then
+        assertThat(chargeAccumulator.isAccumulating(3L)).isFalse();
+        assertThat(chargeAccumulator.pending(3L)).isZero();
+        assertThat(chargeAccumulator.current(3L)).isNull();
+    }
+
+    // 락 안에서 하는 반영을 흉내낸다: 누적분을 읽고, 그 금액을 테이블에 썼다고 보고 빼낸다.
+    private long settle(ChargeAccumulator chargeAccumulator, long userId, long applied) {
+        long pending = chargeAccumulator.pending(userId);
+        chargeAccumulator.settle(new UserPoint(userId, applied + pending, System.currentTimeMillis()), pending);
+        return pending;
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    private static final long FAST_RTT_NANOS = 1_000_000L;
+    private static final long SLOW_RTT_NANOS = 20_000_000L;
+
+    @DisplayName("한도만큼 처리 중이면 다음 요청은 바로 거절된다.")
+    @Test
+    void rejectOverLimit() {
+        //given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 10);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        //when
+        boolean result = limiter.tryAcquire();
+
+        //then
+        assertThat(result).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 자리를 한 번에 차지할 수 있고, 남은 자리보다 많이 요청하면 거절된다.")
+    @Test
+    void acquirePermits() {
+        //given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 1, 10);
+        limiter.tryAcquire(6);
+
+        //when
+        int overLimit = limiter.tryAcquire(5);
+        int withinLimit = limiter.tryAcquire(4);
+
+        //then
+        assertThat(overLimit).isZero();
+        assertThat(withinLimit).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+        limiter.release(6, FAST_RTT_NANOS);
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @DisplayName("한도를 채워 처리하는 동안 지연이 일정하면 한도가 늘어난다.")
+    @Test
+    void increaseWhenLatencyIsStable() {
+        //given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 5, 200);
+
+        //when
+        runAtLimit(limiter, 50, FAST_RTT_NANOS);
+
+        //then
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @DisplayName("지연이 커지면 한도가 줄어든다.")
+    @Test
+    void decreaseWhenLatencyRises() {
+        //given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 5, 200);
+        runAtLimit(limiter, 50, FAST_RTT_NANOS);
+        int stableLimit = limiter.getLimit();
+
+        //when
+        runAtLimit(limiter, 10, SLOW_RTT_NANOS);
+
+        //then
+        assertThat(limiter.getLimit()).isLessThan(stableLimit / 2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @DisplayName("한도의 절반도 쓰지 않으면 한도를 늘리지 않는다.")
+    @Test
+    void keepLimitWhenUnderutilized() {
+        //given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 5, 200);
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST_RTT_NANOS);
+        }
+
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @DisplayName("지연으로 한도가 줄어도, 부하가 빠지면 한도보다 큰 묶음 요청이 한도만큼 차지하고 들어오고 한도도 처음 값으로 돌아간다.")
+    @Test
+    void admitLargeBatchAfterLoadDrops() {
+        //given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(100, 10, 200);
+        runAtLimit(limiter, 20, FAST_RTT_NANOS);
+        runAtLimit(limiter, 50, SLOW_RTT_NANOS);
+        int shrunkLimit = limiter.getLimit();
+
+        //when
+        int batchPermits = limiter.tryAcquire(100);
+        limiter.release(batchPermits, FAST_RTT_NANOS);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST_RTT_NANOS);
+        }
+
+        //then
+        assertThat(shrunkLimit).isLessThan(50);
+        assertThat(batchPermits).isEqualTo(shrunkLimit);
+        assertThat(limiter.getLimit()).isEqualTo(100);
+        assertThat(limiter.tryAcquire(100)).isEqualTo(100);
+    }
+
+    // 매 회차마다 현재 한도만큼 요청을 받아 같은 지연으로 끝낸다.
+    private void runAtLimit(ConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int limit = limiter.getLimit();
+            for (int i = 0; i < limit; i++) {
+                limiter.tryAcquire();
+            }
+            for (int i = 0; i < limit; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLongSetTest {
+
+    @DisplayName("배열을 여러 번 늘려도 담은 값은 모두 남고, 0 과 음수도 담을 수 있다.")
+    @Test
+    void addAfterGrow() {
+        //given
+        ConcurrentLongSet set = new ConcurrentLongSet();
+
+        //when
+        for (long value = -5_000; value <= 5_000; value++) {
+            set.add(value);
+        }
+
+        //then
+        assertThat(set.toList()).hasSize(10_001).doesNotHaveDuplicates();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-5_000L)).isTrue();
+        assertThat(set.contains(5_001L)).isFalse();
+    }
+
+    @DisplayName("여러 스레드가 같은 값을 동시에 넣어도 한 번만 담긴다.")
+    @Test
+    void addConcurrently() throws Exception {
+        //given
+        ConcurrentLongSet set = new ConcurrentLongSet();
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            futures.add(executorService.submit(() -> {
+                int added = 0;
+                for (long value = 1; value <= 20_000; value++) {
+                    if (set.add(value)) {
+                        added++;
+                    }
+                }
+                return added;
+            }));
+        }
+        int added = 0;
+        for (Future<Integer> future : futures) {
+            added += future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(added).isEqualTo(20_000);
+        assertThat(set.toList()).hasSize(20_000).doesNotHaveDuplicates();
+    }
+}
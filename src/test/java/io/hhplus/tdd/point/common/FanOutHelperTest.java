@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FanOutHelperTest {
+
+    private FanOutHelper fanOutHelper;
+
+    @AfterEach
+    void tearDown() {
+        fanOutHelper.shutdown();
+    }
+
+    @DisplayName("조회를 병렬로 실행하고 결과는 요청한 id 순서로 돌려준다.")
+    @Test
+    void parallel() {
+        //given
+        fanOutHelper = new FanOutHelper(10, 5_000);
+        List<Long> ids = LongStream.rangeClosed(1, 10).boxed().toList();
+
+        //when
+        long start = System.nanoTime();
+        FanOutHelper.Result<Long> result = fanOutHelper.execute(ids, id -> {
+            sleep(200);
+            return id * 10;
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //then
+        assertThat(result.results()).containsExactly(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+        assertThat(result.unresolvedIds()).isEmpty();
+        assertThat(elapsedMillis).isLessThan(1_000);
+    }
+
+    @DisplayName("동시에 실행되는 조회 수는 스레드 수를 넘지 않는다.")
+    @Test
+    void boundedParallelism() {
+        //given
+        fanOutHelper = new FanOutHelper(3, 5_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        //when
+        fanOutHelper.execute(LongStream.rangeClosed(1, 12).boxed().toList(), id -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+            return id;
+        });
+
+        //then
+        assertThat(maxRunning.get()).isEqualTo(3);
+    }
+
+    @DisplayName("마감까지 끝나지 않은 조회와 실패한 조회는 빼고, 그 id 를 따로 돌려준다.")
+    @Test
+    void deadline() {
+        //given
+        fanOutHelper = new FanOutHelper(4, 300);
+
+        //when
+        FanOutHelper.Result<Long> result = fanOutHelper.execute(List.of(1L, 2L, 3L, 4L), id -> {
+            if (id == 2L) {
+                sleep(2_000);
+            }
+            if (id == 3L) {
+                throw new IllegalStateException();
+            }
+            return id;
+        });
+
+        //then
+        assertThat(result.results()).containsExactly(1L, 4L);
+        assertThat(result.unresolvedIds()).containsExactly(2L, 3L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyDetectorTest {
+
+    @DisplayName("요청이 몰리는 유저는 hot 으로 판단한다.")
+    @Test
+    void detectHotKey() {
+        //given
+        HotKeyDetector hotKeyDetector = new HotKeyDetector();
+        long hotUserId = 1L;
+
+        //when
+        boolean hot = false;
+        for (int i = 0; i < 100; i++) {
+            hot = hotKeyDetector.recordAndCheck(hotUserId);
+        }
+
+        //then
+        assertThat(hot).isTrue();
+        assertThat(hotKeyDetector.isHot(hotUserId)).isTrue();
+    }
+
+    @DisplayName("가끔 요청하는 유저는 hot 으로 판단하지 않는다.")
+    @Test
+    void notDetectColdKey() {
+        //given
+        HotKeyDetector hotKeyDetector = new HotKeyDetector();
+
+        //when
+        for (long userId = 1; userId <= 1000; userId++) {
+            hotKeyDetector.recordAndCheck(userId);
+            hotKeyDetector.recordAndCheck(userId);
+        }
+
+        //then
+        assertThat(hotKeyDetector.isHot(500L)).isFalse();
+        assertThat(hotKeyDetector.estimate(500L)).isGreaterThanOrEqualTo(2);
+    }
+
+    @DisplayName("시간이 지나 요청이 줄어든 유저는 더 이상 hot 이 아니다.")
+    @Test
+    void decayHotKey() {
+        //given
+        HotKeyDetector hotKeyDetector = new HotKeyDetector();
+        long hotUserId = 1L;
+        for (int i = 0; i < 100; i++) {
+            hotKeyDetector.recordAndCheck(hotUserId);
+        }
+
+        //when
+        for (int i = 0; i < 50_000; i++) {
+            hotKeyDetector.recordAndCheck(10_000L + i);
+        }
+
+        //then
+        assertThat(hotKeyDetector.isHot(hotUserId)).isFalse();
+    }
+}
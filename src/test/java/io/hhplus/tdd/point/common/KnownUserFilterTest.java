@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KnownUserFilterTest {
+
+    @DisplayName("기록된 유저는 단계가 늘어나도 항상 있다고 답한다.")
+    @Test
+    void noFalseNegative() {
+        //given
+        KnownUserFilter knownUserFilter = new KnownUserFilter(1_000, 0.01);
+
+        //when
+        for (long id = 1; id <= 10_000; id++) {
+            knownUserFilter.add(id);
+        }
+
+        //then
+        assertThat(knownUserFilter.stageCount()).isGreaterThan(1);
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(knownUserFilter.mightContain(id)).isTrue();
+        }
+    }
+
+    @DisplayName("기록되지 않은 유저를 있다고 답하는 비율은 설정한 오탐률 이하이다.")
+    @Test
+    void falsePositiveRate() {
+        //given
+        KnownUserFilter knownUserFilter = new KnownUserFilter(10_000, 0.01);
+        for (long id = 1; id <= 40_000; id++) {
+            knownUserFilter.add(id);
+        }
+
+        //when
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (long id = 1_000_000; id < 1_000_000 + probes; id++) {
+            if (knownUserFilter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        assertThat((double) falsePositives / probes).isLessThan(0.01);
+    }
+
+    @DisplayName("같은 유저를 여러 번 기록해도 한 번만 센다.")
+    @Test
+    void addSameUser() {
+        //given
+        KnownUserFilter knownUserFilter = new KnownUserFilter(1_000, 0.01);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            knownUserFilter.add(1L);
+        }
+
+        //then
+        assertThat(knownUserFilter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockHelperTest {
+
+    // 동시에 락을 잡을 수 있는 최대 유저 수 (Tomcat 스레드 수, 쓰기 동시 처리 한도)
+    private static final int CONCURRENT_USERS = 200;
+
+    @DisplayName("동시에 락을 잡는 만큼의 서로 다른 유저는 거의 같은 락을 나눠 쓰지 않는다.")
+    @Test
+    void stripeCollisionRate() {
+        //given
+        LockHelper lockHelper = new LockHelper();
+        Random random = new Random(42);
+
+        //when
+        int sequentialCollisions = collisions(lockHelper, random, false);
+        int randomCollisions = collisions(lockHelper, random, true);
+
+        //then
+        assertThat(sequentialCollisions).isZero();
+        // 199 / 65,536 의 확률로 겹치므로 200 명 중 기대값은 1 명 미만이다.
+        assertThat(randomCollisions).isLessThanOrEqualTo(2);
+    }
+
+    @DisplayName("서로 다른 유저는 모두 동시에 락을 잡고 있을 수 있다.")
+    @Test
+    void differentUsersDoNotBlock() throws Exception {
+        //given
+        LockHelper lockHelper = new LockHelper();
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_USERS);
+        // 모든 유저가 락을 잡은 채로 서로를 기다리므로, 한 명이라도 다른 유저의 락을 기다리면 끝나지 않는다.
+        CountDownLatch allHolding = new CountDownLatch(CONCURRENT_USERS);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        //when
+        for (long userId = 1; userId <= CONCURRENT_USERS; userId++) {
+            long id = userId;
+            futures.add(executorService.submit(() -> lockHelper.executeWithLock(id, () -> {
+                allHolding.countDown();
+                return await(allHolding);
+            })));
+        }
+
+        //then
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executorService.shutdown();
+    }
+
+    private int collisions(LockHelper lockHelper, Random random, boolean randomIds) {
+        Set<Lock> locks = new HashSet<>();
+        int collisions = 0;
+        for (int i = 1; i <= CONCURRENT_USERS; i++) {
+            long userId = randomIds ? random.nextLong() : i;
+            if (!locks.add(lockHelper.getLock(userId))) {
+                collisions++;
+            }
+        }
+        return collisions;
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.common;
+
+import io.hhplus.tdd.point.domain.PointChangeEvent;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointChangeFeedTest {
+
+    @DisplayName("발행한 변경은 sequence 순서대로 읽을 수 있다.")
+    @Test
+    void publish() {
+        //given
+        PointChangeFeed pointChangeFeed = new PointChangeFeed();
+        long userId = 1L;
+
+        //when
+        pointChangeFeed.publish(history(1L, userId, 1000L), new UserPoint(userId, 1000L, 1L));
+        pointChangeFeed.publish(history(2L, userId, 500L), new UserPoint(userId, 1500L, 2L));
+
+        //then
+        assertThat(pointChangeFeed.headSequence()).isEqualTo(2L);
+        PointChangeEvent event = pointChangeFeed.get(1L);
+        assertThat(event.history().id()).isEqualTo(2L);
+        assertThat(event.userPoint().point()).isEqualTo(1500L);
+        assertThat(pointChangeFeed.get(2L)).isNull();
+    }
+
+    @DisplayName("마지막으로 받은 sequence 다음부터 이어서 읽을 위치를 찾는다.")
+    @Test
+    void sequenceAfter() {
+        //given
+        PointChangeFeed pointChangeFeed = new PointChangeFeed();
+        for (long historyId = 1; historyId <= 5; historyId++) {
+            pointChangeFeed.publish(history(historyId, 2L, 100L), new UserPoint(2L, historyId * 100, historyId));
+        }
+
+        //when //then
+        assertThat(pointChangeFeed.sequenceAfter(2L)).isEqualTo(3L);
+        assertThat(pointChangeFeed.sequenceAfter(-1L)).isEqualTo(0L);
+        assertThat(pointChangeFeed.sequenceAfter(4L)).isEqualTo(5L);
+        assertThat(pointChangeFeed.sequenceAfter(100L)).isEqualTo(5L);
+    }
+
+    @DisplayName("링 버퍼 크기를 넘어서 발행하면 오래된 변경은 덮어쓰인다.")
+    @Test
+    void overwriteOldEvents() {
+        //given
+        PointChangeFeed pointChangeFeed = new PointChangeFeed();
+        int published = 70_000;
+
+        //when
+        for (long historyId = 1; historyId <= published; historyId++) {
+            pointChangeFeed.publish(history(historyId, 3L, 1L), new UserPoint(3L, historyId, historyId));
+        }
+
+        //then
+        long tail = pointChangeFeed.tailSequence();
+        assertThat(tail).isGreaterThan(0L);
+        assertThat(pointChangeFeed.get(tail - 1)).isNull();
+        assertThat(pointChangeFeed.get(tail).sequence()).isEqualTo(tail);
+    }
+
+    private PointHistory history(long id, long userId, long amount) {
+        return new PointHistory(id, userId, amount, CHARGE, id);
+    }
+}
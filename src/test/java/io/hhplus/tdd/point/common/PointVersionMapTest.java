@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.common;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointVersionMapTest {
+
+    @DisplayName("포인트가 바뀌면 ETag 가 바뀐다.")
+    @Test
+    void eTagChangesOnUpdate() {
+        //given
+        PointVersionMap pointVersionMap = new PointVersionMap();
+        long userId = 1L;
+        String before = pointVersionMap.eTag(userId, 0L);
+
+        //when
+        pointVersionMap.update(new UserPoint(userId, 1000L, 1L), new PointHistory(10L, userId, 1000L, CHARGE, 1L));
+
+        //then
+        assertThat(pointVersionMap.eTag(userId, 0L)).isNotEqualTo(before);
+        assertThat(pointVersionMap.version(userId)).isEqualTo(10L);
+    }
+
+    @DisplayName("바뀌지 않았으면 같은 ETag 를, 누적 중인 충전이 있으면 다른 ETag 를 만든다.")
+    @Test
+    void eTagWithPending() {
+        //given
+        PointVersionMap pointVersionMap = new PointVersionMap();
+        long userId = 2L;
+        pointVersionMap.update(new UserPoint(userId, 1000L, 1L), new PointHistory(20L, userId, 1000L, CHARGE, 1L));
+
+        //when
+        String eTag = pointVersionMap.eTag(userId, 0L);
+
+        //then
+        assertThat(pointVersionMap.eTag(userId, 0L)).isEqualTo(eTag);
+        assertThat(pointVersionMap.eTag(userId, 500L)).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("먼저 기록된 내역 id 보다 작은 id 로는 버전이 되돌아가지 않는다.")
+    @Test
+    void versionNeverGoesBack() {
+        //given
+        PointVersionMap pointVersionMap = new PointVersionMap();
+        long userId = 3L;
+        pointVersionMap.update(new UserPoint(userId, 1000L, 2L), new PointHistory(30L, userId, 1000L, CHARGE, 2L));
+
+        //when
+        pointVersionMap.update(new UserPoint(userId, 500L, 1L), new PointHistory(29L, userId, 500L, CHARGE, 1L));
+
+        //then
+        assertThat(pointVersionMap.version(userId)).isEqualTo(30L);
+    }
+
+    @DisplayName("마지막 변경과 같은 초 안에서는 Last-Modified 를 쓰지 않는다.")
+    @Test
+    void lastModified() {
+        //given
+        PointVersionMap pointVersionMap = new PointVersionMap();
+        long oldUser = 4L;
+        long recentUser = 5L;
+        long now = System.currentTimeMillis();
+        pointVersionMap.update(new UserPoint(oldUser, 1000L, now - 5_000L), new PointHistory(40L, oldUser, 1000L, CHARGE, now - 5_000L));
+        pointVersionMap.update(new UserPoint(recentUser, 1000L, now), new PointHistory(41L, recentUser, 1000L, CHARGE, now));
+
+        //when //then
+        assertThat(pointVersionMap.lastModified(oldUser)).isEqualTo(now - 5_000L);
+        assertThat(pointVersionMap.lastModified(recentUser)).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightHelperTest {
+
+    @DisplayName("같은 id 로 동시에 조회하면 실제 조회는 한 번만 수행되고 결과를 공유한다.")
+    @Test
+    void coalesceConcurrentCalls() throws InterruptedException {
+        //given
+        SingleFlightHelper singleFlightHelper = new SingleFlightHelper();
+        long userId = 1L;
+        int numThreads = 10;
+        AtomicInteger callCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch doneSignal = new CountDownLatch(numThreads);
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        Map<Integer, Long> results = new ConcurrentHashMap<>();
+
+        //when
+        for (int i = 0; i < numThreads; i++) {
+            int index = i;
+            executorService.execute(() -> {
+                try {
+                    long result = singleFlightHelper.execute(userId, () -> {
+                        callCount.incrementAndGet();
+                        await(release);
+                        return 1000L;
+                    });
+                    results.put(index, result);
+                } finally {
+                    doneSignal.countDown();
+                }
+            });
+        }
+        // 모든 요청이 진행중인 조회에 합류할 시간을 준 뒤 첫 조회를 끝낸다.
+        waitUntil(() -> singleFlightHelper.getRequestCount() == numThreads);
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+        doneSignal.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(callCount.get()).isEqualTo(1);
+        assertThat(results.values()).hasSize(numThreads).containsOnly(1000L);
+        assertThat(singleFlightHelper.getCoalescingRatio()).isEqualTo(1.0 - 1.0 / numThreads);
+    }
+
+    @DisplayName("조회가 끝난 뒤의 요청은 이전 결과를 재사용하지 않고 새로 조회한다.")
+    @Test
+    void doNotReuseCompletedCall() {
+        //given
+        SingleFlightHelper singleFlightHelper = new SingleFlightHelper();
+        AtomicInteger callCount = new AtomicInteger();
+
+        //when
+        singleFlightHelper.execute(1L, callCount::incrementAndGet);
+        int result = singleFlightHelper.execute(1L, callCount::incrementAndGet);
+
+        //then
+        assertThat(result).isEqualTo(2);
+        assertThat(singleFlightHelper.getExecutionCount()).isEqualTo(2);
+    }
+
+    @DisplayName("조회 중 발생한 예외는 합류한 요청에도 그대로 전달된다.")
+    @Test
+    void propagateException() {
+        //given
+        SingleFlightHelper singleFlightHelper = new SingleFlightHelper();
+
+        //when //then
+        assertThatThrownBy(() -> singleFlightHelper.execute(1L, () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlightHelper.execute(1L, () -> 1L)).isEqualTo(1L);
+    }
+
+    @DisplayName("일부 유저에 몰리는 조회에서 테이블 호출 수가 요청 수보다 크게 줄어든다.")
+    @Test
+    void reduceTableCallsUnderSkewedLoad() throws InterruptedException {
+        //given
+        SingleFlightHelper singleFlightHelper = new SingleFlightHelper();
+        int numThreads = 32;
+        int requestsPerThread = 200;
+        int userCount = 1000;
+        LongAdder tableCalls = new LongAdder();
+
+        CountDownLatch doneSignal = new CountDownLatch(numThreads);
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+
+        //when
+        for (int i = 0; i < numThreads; i++) {
+            long seed = i;
+            executorService.execute(() -> {
+                Random random = new Random(seed);
+                try {
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        // 절반은 1번 유저에 몰리고, 나머지는 전체 유저에 고르게 퍼진다.
+                        long userId = j % 2 == 0 ? 1L : 1L + random.nextInt(userCount);
+                        singleFlightHelper.execute(userId, () -> {
+                            tableCalls.increment();
+                            // UserPointTable.selectById 의 지연을 흉내낸다.
+                            sleep(2);
+                            return userId;
+                        });
+                    }
+                } finally {
+                    doneSignal.countDown();
+                }
+            });
+        }
+        doneSignal.await();
+        executorService.shutdown();
+
+        //then
+        long requests = (long) numThreads * requestsPerThread;
+        assertThat(singleFlightHelper.getRequestCount()).isEqualTo(requests);
+        assertThat(singleFlightHelper.getExecutionCount()).isEqualTo(tableCalls.sum());
+        assertThat(singleFlightHelper.getCoalescingRatio()).isEqualTo(1.0 - (double) tableCalls.sum() / requests);
+        // 1번 유저로 가는 절반의 요청은 대부분 진행 중인 조회에 합류한다. (그 요청이 모두 합류하면 0.5)
+        assertThat(singleFlightHelper.getCoalescingRatio()).isGreaterThanOrEqualTo(0.4);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        while (!condition.getAsBoolean()) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.List;
+
+import static io.hhplus.tdd.point.controller.PointBinaryProtocol.*;
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.enums.TransactionType.USE;
+import static io.hhplus.tdd.point.exception.ErrorCode.NOT_ENOUGH_POINT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class PointBinaryServerTest {
+
+    @Mock
+    private PointService pointService;
+
+    private PointBinaryServer pointBinaryServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        pointBinaryServer = new PointBinaryServer(pointService, 0);
+        pointBinaryServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pointBinaryServer.stop();
+    }
+
+    @DisplayName("한 연결에서 여러 요청을 연달아 보내면 요청 순서대로 응답을 받는다.")
+    @Test
+    void pipelining() throws IOException {
+        //given
+        long userId = 1L;
+        when(pointService.charge(userId, 1000L)).thenReturn(new UserPoint(userId, 1000L, 1L));
+        when(pointService.use(userId, 300L)).thenReturn(new UserPoint(userId, 700L, 2L));
+        when(pointService.getPoint(userId)).thenReturn(new UserPoint(userId, 700L, 2L));
+
+        try (Socket socket = new Socket("localhost", pointBinaryServer.getLocalPort());
+             DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+             DataInputStream in = new DataInputStream(socket.getInputStream())) {
+            //when
+            writeRequest(out, OP_CHARGE, userId, 1000L);
+            writeRequest(out, OP_USE, userId, 300L);
+            writeRequest(out, OP_GET, userId, null);
+            out.flush();
+
+            //then
+            assertThat(readUserPoint(in).point()).isEqualTo(1000L);
+            assertThat(readUserPoint(in).point()).isEqualTo(700L);
+            assertThat(readUserPoint(in)).isEqualTo(new UserPoint(userId, 700L, 2L));
+        }
+    }
+
+    @DisplayName("포인트 내역을 조회한다.")
+    @Test
+    void history() throws IOException {
+        //given
+        long userId = 2L;
+        when(pointService.getHistory(userId)).thenReturn(List.of(
+                new PointHistory(1L, userId, 1000L, CHARGE, 1L),
+                new PointHistory(2L, userId, 300L, USE, 2L)));
+
+        try (Socket socket = new Socket("localhost", pointBinaryServer.getLocalPort());
+             DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+             DataInputStream in = new DataInputStream(socket.getInputStream())) {
+            //when
+            writeRequest(out, OP_HISTORY, userId, null);
+            out.flush();
+
+            //then
+            in.readInt();
+            assertThat(in.readByte()).isEqualTo(STATUS_OK);
+            assertThat(in.readInt()).isEqualTo(2);
+            assertThat(in.readLong()).isEqualTo(1L);
+            assertThat(in.readLong()).isEqualTo(userId);
+            assertThat(in.readLong()).isEqualTo(1000L);
+            assertThat(in.readByte()).isEqualTo((byte) CHARGE.ordinal());
+            assertThat(in.readLong()).isEqualTo(1L);
+        }
+    }
+
+    @DisplayName("포인트가 부족하면 에러 코드를 응답한다.")
+    @Test
+    void pointError() throws IOException {
+        //given
+        long userId = 3L;
+        when(pointService.use(userId, 2000L)).thenThrow(new PointException(NOT_ENOUGH_POINT, "포인트가 부족합니다."));
+
+        try (Socket socket = new Socket("localhost", pointBinaryServer.getLocalPort());
+             DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+             DataInputStream in = new DataInputStream(socket.getInputStream())) {
+            //when
+            writeRequest(out, OP_USE, userId, 2000L);
+            out.flush();
+
+            //then
+            assertThat(in.readInt()).isEqualTo(2);
+            assertThat(in.readByte()).isEqualTo(STATUS_POINT_ERROR);
+            assertThat(in.readByte()).isEqualTo((byte) NOT_ENOUGH_POINT.ordinal());
+        }
+    }
+
+    @DisplayName("길이가 맞지 않는 요청은 BAD_REQUEST 를 응답하고 다음 요청은 정상 처리한다.")
+    @Test
+    void badRequest() throws IOException {
+        //given
+        long userId = 4L;
+        when(pointService.getPoint(userId)).thenReturn(new UserPoint(userId, 0L, 1L));
+
+        try (Socket socket = new Socket("localhost", pointBinaryServer.getLocalPort());
+             DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+             DataInputStream in = new DataInputStream(socket.getInputStream())) {
+            //when
+            out.writeInt(1 + Long.BYTES * 2);
+            out.writeByte(OP_GET);
+            out.writeLong(userId);
+            out.writeLong(0L);
+            writeRequest(out, OP_GET, userId, null);
+            out.flush();
+
+            //then
+            assertThat(in.readInt()).isEqualTo(1);
+            assertThat(in.readByte()).isEqualTo(STATUS_BAD_REQUEST);
+            assertThat(readUserPoint(in).id()).isEqualTo(userId);
+        }
+    }
+
+    private void writeRequest(DataOutputStream out, byte op, long userId, Long amount) throws IOException {
+        out.writeInt(requestLength(op));
+        out.writeByte(op);
+        out.writeLong(userId);
+        if (amount != null) {
+            out.writeLong(amount);
+        }
+    }
+
+    private UserPoint readUserPoint(DataInputStream in) throws IOException {
+        in.readInt();
+        assertThat(in.readByte()).isEqualTo(STATUS_OK);
+        return new UserPoint(in.readLong(), in.readLong(), in.readLong());
+    }
+}
@@ -1,7 +1,11 @@
 package io.hhplus.tdd.point.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.common.ConcurrencyLimiter;
+import io.hhplus.tdd.point.domain.PointBatch;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryBatch;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.service.PointService;
 import org.junit.jupiter.api.DisplayName;
@@ -13,14 +17,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
 import static io.hhplus.tdd.point.enums.TransactionType.USE;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +45,9 @@ class PointControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PointConcurrencyLimitInterceptor pointConcurrencyLimitInterceptor;
+
 
     @DisplayName("유저의 포인트를 조회한다")
     @Test
@@ -116,4 +128,147 @@ class PointControllerTest {
 
 
     }
-}
\ No newline at end of file
+
+    @DisplayName("유저의 포인트를 다른 유저에게 전송한다.")
+    @Test
+    void transfer() throws Exception {
+        //given
+        long fromId = 5L;
+        long toId = 6L;
+        long amount = 300L;
+
+        PointTransfer result = new PointTransfer(new UserPoint(fromId, 700L, System.currentTimeMillis()),
+                new UserPoint(toId, 300L, System.currentTimeMillis()));
+        when(pointService.transfer(fromId, toId, amount)).thenReturn(result);
+
+        //when //then
+        mockMvc.perform(post("/point/transfer")
+                        .content(objectMapper.writeValueAsString(new PointTransferRequest(fromId, toId, amount)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from.point").value(700L))
+                .andExpect(jsonPath("$.to.point").value(300L));
+    }
+
+    @DisplayName("쓰기 요청이 동시 처리 한도를 넘으면 503 과 Retry-After 를 응답한다.")
+    @Test
+    void writeOverConcurrencyLimit() throws Exception {
+        //given
+        long userId = 7L;
+        ConcurrencyLimiter writeLimiter = pointConcurrencyLimitInterceptor.getWriteLimiter();
+        int acquired = 0;
+        while (writeLimiter.tryAcquire()) {
+            acquired++;
+        }
+
+        try {
+            //when //then
+            mockMvc.perform(patch("/point/%s/charge".formatted(userId))
+                            .content("1000")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.code").value("503"));
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                writeLimiter.release(0L);
+            }
+        }
+    }
+
+    @DisplayName("포인트가 바뀌지 않았으면 ETag 로 조회할 때 304 를 응답하고 포인트를 읽지 않는다.")
+    @Test
+    void pointNotModified() throws Exception {
+        //given
+        long userId = 8L;
+        String eTag = "\"1-a-0\"";
+        when(pointService.getPointETag(userId)).thenReturn(eTag);
+        when(pointService.getPointLastModified(userId)).thenReturn(-1L);
+
+        //when //then
+        mockMvc.perform(get("/point/%s".formatted(userId))
+                        .header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+        verify(pointService, never()).getPoint(userId);
+    }
+
+    @DisplayName("내역이 바뀌었으면 새 ETag 와 함께 내역을 응답한다.")
+    @Test
+    void historyModified() throws Exception {
+        //given
+        long userId = 9L;
+        when(pointService.getHistoryETag(userId)).thenReturn("\"1-b-0\"");
+        when(pointService.getHistoryLastModified(userId)).thenReturn(-1L);
+        when(pointService.getHistory(userId)).thenReturn(List.of(new PointHistory(11L, userId, 1000L, CHARGE, System.currentTimeMillis())));
+
+        //when //then
+        mockMvc.perform(get("/point/%s/histories".formatted(userId))
+                        .header("If-None-Match", "\"1-a-0\""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-b-0\""))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @DisplayName("여러 유저의 포인트를 한 번에 조회하고, 조회하지 못한 유저는 따로 응답한다.")
+    @Test
+    void points() throws Exception {
+        //given
+        List<Long> ids = List.of(10L, 11L, 12L);
+        PointBatch result = new PointBatch(
+                List.of(new UserPoint(10L, 100L, System.currentTimeMillis()), new UserPoint(12L, 300L, System.currentTimeMillis())),
+                List.of(11L));
+        when(pointService.getPoints(ids)).thenReturn(result);
+
+        //when //then
+        mockMvc.perform(get("/point").param("ids", "10,11,12"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points", hasSize(2)))
+                .andExpect(jsonPath("$.points[1].point").value(300L))
+                .andExpect(jsonPath("$.unresolvedIds[0]").value(11L));
+    }
+
+    @DisplayName("여러 유저의 포인트 내역을 한 번에 조회하고, 조회하지 못한 유저는 따로 응답한다.")
+    @Test
+    void histories() throws Exception {
+        //given
+        List<Long> ids = List.of(10L, 11L);
+        PointHistoryBatch result = new PointHistoryBatch(
+                Map.of(10L, List.of(new PointHistory(1L, 10L, 100L, CHARGE, System.currentTimeMillis()))),
+                List.of(11L));
+        when(pointService.getHistories(ids)).thenReturn(result);
+
+        //when //then
+        mockMvc.perform(get("/point/histories").param("ids", "10,11"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories['10']", hasSize(1)))
+                .andExpect(jsonPath("$.histories['10'][0].amount").value(100L))
+                .andExpect(jsonPath("$.unresolvedIds[0]").value(11L));
+    }
+
+    @DisplayName("여러 유저를 조회하는 요청은 유저 수만큼 조회 한도를 차지해, 남은 자리가 모자라면 503 을 응답한다.")
+    @Test
+    void batchOverConcurrencyLimit() throws Exception {
+        //given
+        ConcurrencyLimiter readLimiter = pointConcurrencyLimitInterceptor.getReadLimiter();
+        int acquired = readLimiter.getLimit() - 2;
+        readLimiter.tryAcquire(acquired);
+
+        try {
+            //when //then
+            mockMvc.perform(get("/point").param("ids", "1,2,3"))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value("503"));
+            verify(pointService, never()).getPoints(List.of(1L, 2L, 3L));
+        } finally {
+            readLimiter.release(acquired, 0L);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
@@ -167,6 +168,58 @@ public class IntegrationTest {
         assertThat(successCount.get()).isEqualTo(numThreads);
     }
 
+    @DisplayName("여러 유저 사이에서 동시에 서로 반대 방향으로 전송해도 데드락 없이 전체 포인트가 유지된다.")
+    @Test
+    void transferWhenConcurrencyEnv() throws InterruptedException {
+        //given
+        long[] userIds = {7L, 8L, 9L, 10L, 11L, 12L};
+        long initAmount = 10_000L;
+        long transferAmount = 100L;
+        int numPairs = 30;
+        int numTransfers = numPairs * 2;
+
+        for (long userId : userIds) {
+            userPointRepository.insertOrUpdate(userId, initAmount);
+        }
+
+        CountDownLatch startSignal = new CountDownLatch(1);
+        CountDownLatch doneSignal = new CountDownLatch(numTransfers);
+        ExecutorService executorService = Executors.newFixedThreadPool(numTransfers);
+
+        AtomicInteger successCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < numPairs; i++) {
+            // 이웃한 두 유저 사이에 A→B 와 B→A 를 함께 보내고, 같은 신호로 동시에 출발시켜 락 순서가 엇갈리게 한다.
+            long userA = userIds[i % userIds.length];
+            long userB = userIds[(i + 1) % userIds.length];
+            for (long[] direction : new long[][]{{userA, userB}, {userB, userA}}) {
+                executorService.execute(() -> {
+                    try {
+                        startSignal.await();
+                        pointService.transfer(direction[0], direction[1], transferAmount);
+                        successCount.getAndIncrement();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneSignal.countDown();
+                    }
+                });
+            }
+        }
+        startSignal.countDown();
+        boolean finished = doneSignal.await(120, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(finished).isTrue();
+        assertThat(successCount.get()).isEqualTo(numTransfers);
+        // 모든 전송에 반대 방향 전송이 짝지어져 있으므로 유저마다 포인트가 그대로다.
+        for (long userId : userIds) {
+            assertThat(pointService.getPoint(userId).point()).isEqualTo(initAmount);
+        }
+    }
+
     @DisplayName("포인트 사용 내역을 조회한다.")
     @Test
     void history() {
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.jfr;
+
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.exception.ErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointJfrAnalyzerTest {
+
+    @TempDir
+    private Path directory;
+
+    @DisplayName("녹화 중이 아니면 요청은 결과와 예외를 그대로 넘기고, 구간 이벤트 객체는 만들지 않는다.")
+    @Test
+    void notRecording() {
+        //given
+        PointException failure = new PointException(ErrorCode.NOT_ENOUGH_POINT, "포인트가 부족합니다.");
+
+        //when
+        long result = PointOperationEvent.record(PointOperationEvent.CHARGE, 1L, 0L, 100L, (id, targetId, amount) -> id + amount);
+        PointLockEvent lockEvent = PointLockEvent.begin(1L, 0);
+        PointTableEvent tableEvent = PointTableEvent.begin("UserPointTable", "selectById", 1L);
+
+        //then
+        assertThat(result).isEqualTo(101L);
+        assertThatThrownBy(() -> PointOperationEvent.record(PointOperationEvent.USE, 1L, 0L, 100L, (id, targetId, amount) -> {
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(lockEvent).isNull();
+        assertThat(tableEvent).isNull();
+    }
+
+    @DisplayName("녹화 파일에서 요청이 많은 유저와 오래 걸린 구간 순서로 보여준다.")
+    @Test
+    void analyze() throws Exception {
+        //given
+        Path file = directory.resolve("point.jfr");
+        LockHelper lockHelper = new LockHelper();
+        try (Recording recording = new Recording()) {
+            recording.enable(PointOperationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(PointLockEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(PointTableEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            for (int i = 0; i < 3; i++) {
+                operation(PointOperationEvent.CHARGE, 1L, null);
+            }
+            operation(PointOperationEvent.USE, 2L, new PointException(ErrorCode.NOT_ENOUGH_POINT, "포인트가 부족합니다."));
+            PointTableEvent tableEvent = PointTableEvent.begin("UserPointTable", "selectById", 1L);
+            Thread.sleep(20);
+            PointTableEvent.end(tableEvent);
+            lockHelper.executeWithLock(1L, () -> sleep(5));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        //when
+        PointJfrAnalyzer.Report report = PointJfrAnalyzer.analyze(file, 10);
+
+        //then
+        assertThat(report.hottestUsers()).extracting("userId").containsExactly(1L, 2L);
+        assertThat(report.hottestUsers()).extracting("operations").containsExactly(3L, 1L);
+        assertThat(report.hottestUsers()).extracting("failures").containsExactly(0L, 1L);
+        assertThat(report.slowestPhases().get(0).phase()).isEqualTo("table UserPointTable.selectById");
+        assertThat(report.slowestPhases()).extracting("phase")
+                .contains("operation CHARGE", "operation USE", "lock wait", "lock hold");
+        PointJfrAnalyzer.PhaseStat lockHold = report.slowestPhases().stream()
+                .filter(phase -> phase.phase().equals("lock hold"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(lockHold.maxNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(5).toNanos());
+    }
+
+    private void operation(String operation, long userId, PointException failure) {
+        try {
+            PointOperationEvent.record(operation, userId, 0L, 100L, (id, targetId, amount) -> {
+                if (failure != null) {
+                    throw failure;
+                }
+                return null;
+            });
+        } catch (PointException ignored) {
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.domain.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.enums.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentPointHistoryRepositoryTest {
+
+    private static final int USERS = 64;
+
+    @DisplayName("여러 스레드가 동시에 쌓아도 id 는 겹치지 않고, 유저별/전체 조회 모두 id 순서로 빠짐없이 보인다.")
+    @Test
+    void concurrentInsert() throws Exception {
+        //given
+        ConcurrentPointHistoryRepository repository = repository();
+        int threads = 8;
+        int insertsPerThread = 5_000;
+
+        //when
+        runConcurrently(repository, threads, insertsPerThread, true);
+
+        //then
+        List<PointHistory> all = repository.selectAll();
+        assertThat(all).extracting("id")
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, (long) threads * insertsPerThread).boxed().toList());
+        long total = 0;
+        for (long userId = 0; userId < USERS; userId++) {
+            List<PointHistory> histories = repository.selectAllByUserId(userId);
+            assertThat(histories).isSortedAccordingTo((left, right) -> Long.compare(left.id(), right.id()));
+            total += histories.size();
+        }
+        assertThat(total).isEqualTo((long) threads * insertsPerThread);
+    }
+
+    @DisplayName("유저 내역 view 는 조회한 시점의 내역만 보여준다.")
+    @Test
+    void userView() {
+        //given
+        ConcurrentPointHistoryRepository repository = repository();
+        long userId = 1L;
+        repository.insert(userId, 1000L, CHARGE, 1L);
+        List<PointHistory> before = repository.selectAllByUserId(userId);
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            repository.insert(userId, 100L, USE, 2L + i);
+        }
+
+        //then
+        assertThat(before).hasSize(1);
+        assertThat(repository.selectAllByUserId(userId)).hasSize(21);
+        assertThat(repository.selectAllByUserId(2L)).isEmpty();
+    }
+
+    @DisplayName("쌓는 중에 전체 조회해도 빠진 id 없이 1 부터 이어진 내역만 보인다.")
+    @Test
+    void selectAllWhileInserting() throws Exception {
+        //given
+        ConcurrentPointHistoryRepository repository = repository();
+        int threads = 4;
+        int insertsPerThread = 20_000;
+
+        //when
+        CompletableFuture<Void> writers = CompletableFuture.runAsync(() -> {
+            try {
+                runConcurrently(repository, threads, insertsPerThread, false);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        //then
+        while (!writers.isDone()) {
+            List<PointHistory> all = repository.selectAll();
+            for (int i = 0; i < all.size(); i++) {
+                assertThat(all.get(i).id()).isEqualTo(i + 1L);
+            }
+        }
+        writers.get();
+        assertThat(repository.selectAll()).hasSize(threads * insertsPerThread);
+    }
+
+    private ConcurrentPointHistoryRepository repository() {
+        return new ConcurrentPointHistoryRepository(new KnownUserFilter(1_000, 0.01));
+    }
+
+    // sharedUsers 면 모든 스레드가 같은 유저들에, 아니면 스레드마다 자기 유저들에 번갈아 내역을 쌓는다.
+    private void runConcurrently(ConcurrentPointHistoryRepository repository, int threads, int insertsPerThread,
+                                 boolean sharedUsers) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long firstUser = sharedUsers ? (long) t * USERS / threads : (long) t * USERS;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < insertsPerThread; i++) {
+                    long userId = sharedUsers ? (firstUser + i) % USERS : firstUser + i % USERS;
+                    repository.insert(userId, 100L, CHARGE, i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
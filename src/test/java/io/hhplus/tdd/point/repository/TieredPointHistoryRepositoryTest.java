@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.domain.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.enums.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TieredPointHistoryRepositoryTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final long NOW = 200 * DAY;
+
+    @TempDir
+    private Path directory;
+
+    @DisplayName("오래된 구간을 봉인해도 유저 내역은 cold/hot 구간을 합쳐 id 순서로 조회된다.")
+    @Test
+    void mergeHotAndCold() throws IOException {
+        //given
+        TieredPointHistoryRepository repository = repository(0);
+        long userId = 1L;
+        repository.insert(userId, 1000L, CHARGE, NOW - 100 * DAY);
+        repository.insert(2L, 500L, CHARGE, NOW - 100 * DAY + 1);
+        repository.insert(userId, 300L, USE, NOW - 95 * DAY);
+        repository.insert(userId, 200L, CHARGE, NOW);
+
+        //when
+        repository.sealBefore(NOW - 90 * DAY);
+        List<PointHistory> result = repository.selectAllByUserId(userId);
+
+        //then
+        assertThat(repository.coldSegmentCount()).isEqualTo(2);
+        assertThat(repository.hotSegmentCount()).isEqualTo(1);
+        assertThat(result).containsExactly(
+                new PointHistory(1L, userId, 1000L, CHARGE, NOW - 100 * DAY),
+                new PointHistory(3L, userId, 300L, USE, NOW - 95 * DAY),
+                new PointHistory(4L, userId, 200L, CHARGE, NOW));
+        assertThat(repository.selectAll()).extracting("id").containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("다시 시작하면 봉인된 구간 파일을 읽어오고, id 는 이어서 발급한다.")
+    @Test
+    void reopen() throws IOException {
+        //given
+        long userId = 1L;
+        TieredPointHistoryRepository repository = repository(0);
+        repository.insert(userId, 1000L, CHARGE, NOW - 100 * DAY);
+        repository.insert(userId, 300L, USE, NOW - 100 * DAY + 1);
+        repository.sealBefore(NOW - 90 * DAY);
+
+        //when
+        TieredPointHistoryRepository reopened = repository(0);
+        PointHistory inserted = reopened.insert(userId, 200L, CHARGE, NOW);
+
+        //then
+        assertThat(inserted.id()).isEqualTo(3L);
+        assertThat(reopened.selectAllByUserId(userId))
+                .extracting("amount")
+                .containsExactly(1000L, 300L, 200L);
+    }
+
+    @DisplayName("보관 기간이 지난 구간은 hot/cold 모두 삭제되고, 지운 내역의 합계는 이월 내역으로 남는다.")
+    @Test
+    void retention() throws IOException {
+        //given
+        long userId = 1L;
+        TieredPointHistoryRepository repository = repository(180);
+        repository.insert(userId, 1000L, CHARGE, NOW - 190 * DAY);
+        repository.insert(userId, 300L, USE, NOW - 185 * DAY);
+        repository.insert(userId, 200L, CHARGE, NOW - 100 * DAY);
+        repository.sealBefore(NOW - 187 * DAY);
+
+        //when
+        repository.deleteBefore(NOW - 180 * DAY);
+
+        //then
+        assertThat(repository.coldSegmentCount()).isZero();
+        assertThat(repository(180).selectAllByUserId(userId)).isEmpty();
+        assertThat(repository.selectAllByUserId(userId))
+                .extracting("amount", "type", "updateMillis")
+                .containsExactly(
+                        tuple(200L, CHARGE, NOW - 100 * DAY),
+                        tuple(700L, CHARGE, NOW - 180 * DAY));
+    }
+
+    @DisplayName("삭제하는 동안 지우는 구간에 들어온 내역도 잃지 않아, 유저 내역 합계가 쌓은 금액과 같다.")
+    @Test
+    void insertWhileDeleting() throws Exception {
+        //given
+        long userId = 1L;
+        int inserts = 5_000;
+        TieredPointHistoryRepository repository = repository(180);
+
+        //when
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < inserts; i++) {
+                repository.insert(userId, 1L, CHARGE, NOW - 190 * DAY);
+            }
+        });
+        while (!writer.isDone()) {
+            repository.deleteBefore(NOW - 180 * DAY);
+        }
+        writer.get();
+        repository.deleteBefore(NOW - 180 * DAY);
+
+        //then
+        assertThat(repository.selectAllByUserId(userId))
+                .extracting("updateMillis")
+                .containsOnly(NOW - 180 * DAY);
+        assertThat(repository.selectAllByUserId(userId).stream()
+                .mapToLong(history -> history.type() == CHARGE ? history.amount() : -history.amount())
+                .sum()).isEqualTo(inserts);
+    }
+
+    @DisplayName("봉인하는 동안 같은 구간에 들어온 내역도 빠지거나 중복되지 않고, 다음 봉인에서 cold 로 옮겨진다.")
+    @Test
+    void insertWhileSealing() throws Exception {
+        //given
+        long userId = 1L;
+        int inserts = 5_000;
+        TieredPointHistoryRepository repository = repository(0);
+        repository.insert(userId, 1L, CHARGE, NOW - 100 * DAY);
+
+        //when
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < inserts; i++) {
+                repository.insert(userId, 1L, CHARGE, NOW - 100 * DAY);
+            }
+        });
+        while (!writer.isDone()) {
+            repository.sealBefore(NOW - 90 * DAY);
+            assertThat(repository.selectAllByUserId(userId)).doesNotHaveDuplicates();
+        }
+        writer.get();
+        repository.sealBefore(NOW - 90 * DAY);
+
+        //then
+        assertThat(repository.hotSegmentCount()).isZero();
+        assertThat(repository.selectAllByUserId(userId))
+                .hasSize(inserts + 1)
+                .doesNotHaveDuplicates();
+    }
+
+    @DisplayName("long 범위의 아주 큰 금액도 봉인한 뒤 그대로 읽힌다.")
+    @Test
+    void largeAmount() throws IOException {
+        //given
+        long userId = 1L;
+        TieredPointHistoryRepository repository = repository(0);
+        repository.insert(userId, Long.MAX_VALUE, CHARGE, NOW - 100 * DAY);
+        repository.insert(userId, Long.MAX_VALUE / 2 + 1, USE, NOW - 100 * DAY + 1);
+
+        //when
+        repository.sealBefore(NOW - 90 * DAY);
+
+        //then
+        assertThat(repository(0).selectAllByUserId(userId))
+                .extracting("amount", "type")
+                .containsExactly(
+                        tuple(Long.MAX_VALUE, CHARGE),
+                        tuple(Long.MAX_VALUE / 2 + 1, USE));
+    }
+
+    private TieredPointHistoryRepository repository(long retentionDays) throws IOException {
+        return new TieredPointHistoryRepository(directory.toString(), 24, 90, retentionDays, new KnownUserFilter(1_000, 0.01));
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.tdd.point.repository;
 
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.common.KnownUserFilter;
 import io.hhplus.tdd.point.domain.UserPoint;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class UserPointRepositoryTest {
@@ -58,4 +63,37 @@ class UserPointRepositoryTest {
         //then
         Assertions.assertThat(result.point()).isEqualTo(chargeAmount);
     }
-}
\ No newline at end of file
+
+    @DisplayName("한 번도 기록된 적 없는 유저는 테이블을 읽지 않고 빈 포인트를 반환한다.")
+    @Test
+    void selectUnknownUser() {
+        //given
+        long userId = 3L;
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        UserPointRepository repository = new UserPointRepositoryImpl(userPointTable, new KnownUserFilter(1_000, 0.01));
+
+        //when
+        UserPoint result = repository.selectById(userId);
+
+        //then
+        Assertions.assertThat(result.point()).isZero();
+        verify(userPointTable, never()).selectById(userId);
+    }
+
+    @DisplayName("기록된 유저는 테이블에서 포인트를 읽는다.")
+    @Test
+    void selectKnownUser() {
+        //given
+        long userId = 4L;
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        UserPointRepository repository = new UserPointRepositoryImpl(userPointTable, new KnownUserFilter(1_000, 0.01));
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+        repository.insertOrUpdate(userId, 1000L);
+
+        //when
+        UserPoint result = repository.selectById(userId);
+
+        //then
+        Assertions.assertThat(result.point()).isEqualTo(1000L);
+    }
+}
@@ -0,0 +1,177 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointChangeStreamServiceTest {
+
+    private final PointChangeFeed pointChangeFeed = new PointChangeFeed();
+    private final PointChangeStreamService pointChangeStreamService = new PointChangeStreamService(pointChangeFeed);
+
+    @AfterEach
+    void tearDown() {
+        pointChangeStreamService.shutdown();
+    }
+
+    @DisplayName("마지막으로 받은 sequence 다음부터 이어서 받고, 내역 id 순서와 발행 순서가 달라도 빠지는 변경이 없다.")
+    @Test
+    void resumeFromLastSequence() throws InterruptedException {
+        //given
+        // 서로 다른 유저의 변경은 내역 id 순서와 다르게 발행될 수 있다.
+        publish(2L, 1L);
+        publish(1L, 2L);
+        publish(3L, 1L);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        //when
+        // sequence 0 (내역 id 2) 까지 받았던 구독자가 다시 연결한다.
+        pointChangeStreamService.subscribe(emitter, 0L);
+        dispatchUntil(() -> emitter.ids.size() == 2);
+
+        //then
+        assertThat(emitter.ids).containsExactly("1", "2");
+        assertThat(emitter.names).containsOnly("point-change");
+    }
+
+    @DisplayName("구독자가 링 버퍼 크기보다 뒤처지면 유실된 건수를 gap 으로 알리고 가장 오래된 변경부터 이어서 보낸다.")
+    @Test
+    void gap() throws InterruptedException {
+        //given
+        RecordingEmitter emitter = new RecordingEmitter();
+        pointChangeStreamService.subscribe(emitter, null);
+        int published = 70_000;
+        for (long historyId = 1; historyId <= published; historyId++) {
+            publish(historyId, 1L);
+        }
+        long tail = pointChangeFeed.tailSequence();
+
+        //when
+        dispatchUntil(() -> emitter.names.size() > 1);
+
+        //then
+        assertThat(emitter.names.get(0)).isEqualTo("gap");
+        assertThat(emitter.gaps).containsExactly(String.valueOf(tail));
+        assertThat(emitter.ids.get(0)).isEqualTo(String.valueOf(tail));
+    }
+
+    @DisplayName("느린 구독자는 이전 전송이 끝날 때까지 새 전송을 받지 않고, 다른 구독자를 막지 않는다.")
+    @Test
+    void slowConsumer() throws InterruptedException {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slowEmitter = new RecordingEmitter(release);
+        RecordingEmitter fastEmitter = new RecordingEmitter();
+        pointChangeStreamService.subscribe(slowEmitter, null);
+        pointChangeStreamService.subscribe(fastEmitter, null);
+        publish(1L, 1L);
+
+        //when
+        dispatchUntil(() -> slowEmitter.sendCount.get() == 1 && fastEmitter.ids.size() == 1);
+        publish(2L, 1L);
+        dispatchUntil(() -> fastEmitter.ids.size() == 2);
+
+        //then
+        // 전송 중인 느린 구독자에게는 dispatch 를 반복해도 새 전송이 맡겨지지 않는다.
+        assertThat(slowEmitter.sendCount.get()).isEqualTo(1);
+        assertThat(fastEmitter.ids).containsExactly("0", "1");
+
+        // 느린 구독자도 풀리면 밀린 변경을 이어서 받는다.
+        release.countDown();
+        dispatchUntil(() -> slowEmitter.ids.size() == 2);
+        assertThat(slowEmitter.ids).containsExactly("0", "1");
+    }
+
+    private void publish(long historyId, long userId) {
+        pointChangeFeed.publish(new PointHistory(historyId, userId, 100L, CHARGE, historyId), new UserPoint(userId, 100L, historyId));
+    }
+
+    // 전송은 비동기로 이뤄지므로 조건을 만족할 때까지 dispatch 를 반복한다.
+    private void dispatchUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            pointChangeStreamService.dispatch();
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다.");
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    // 보낸 이벤트의 id / 이름 / gap 건수를 기록하고, release 가 있으면 첫 전송에서 풀릴 때까지 멈춘다.
+    private static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern FIELD = Pattern.compile("^(id|event):(.*)$", Pattern.MULTILINE);
+
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<String> gaps = new CopyOnWriteArrayList<>();
+        private final AtomicInteger sendCount = new AtomicInteger();
+        private final CountDownLatch release;
+
+        private RecordingEmitter() {
+            this(null);
+        }
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sendCount.getAndIncrement() == 0 && release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data = part.getData();
+                }
+            }
+            String name = null;
+            String id = null;
+            Matcher matcher = FIELD.matcher(text);
+            while (matcher.find()) {
+                if (matcher.group(1).equals("id")) {
+                    id = matcher.group(2);
+                } else {
+                    name = matcher.group(2);
+                }
+            }
+            if ("gap".equals(name)) {
+                gaps.add(String.valueOf(data));
+            }
+            if (id != null) {
+                ids.add(id);
+            }
+            names.add(name);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.domain.PointDrift;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.ReconciliationReport;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.enums.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+class PointReconciliationServiceTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    private PointReconciliationService pointReconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pointReconciliationService = new PointReconciliationService(
+                userPointRepository, pointHistoryRepository, new LockHelper(), 4, 0);
+    }
+
+    @DisplayName("포인트가 내역 합계와 다른 유저만 drift 로 보고한다.")
+    @Test
+    void reconcile() {
+        //given
+        long userId = 1L;
+        long driftUserId = 2L;
+        List<PointHistory> driftHistories = List.of(
+                new PointHistory(3L, driftUserId, 500L, CHARGE, 3L));
+        when(pointHistoryRepository.selectAll()).thenReturn(List.of(
+                new PointHistory(1L, userId, 1000L, CHARGE, 1L),
+                new PointHistory(2L, userId, 300L, USE, 2L),
+                driftHistories.get(0)));
+        when(pointHistoryRepository.selectAllByUserId(driftUserId)).thenReturn(driftHistories);
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 700L, 1L));
+        when(userPointRepository.selectById(driftUserId)).thenReturn(new UserPoint(driftUserId, 400L, 1L));
+
+        //when
+        ReconciliationReport result = pointReconciliationService.reconcile();
+
+        //then
+        assertThat(result.status()).isEqualTo(ReconciliationReport.Status.COMPLETED);
+        assertThat(result.historyRows()).isEqualTo(3);
+        assertThat(result.checkedUsers()).isEqualTo(2);
+        assertThat(result.drifts()).containsExactly(new PointDrift(driftUserId, 400L, 500L));
+    }
+
+    @DisplayName("내역을 읽은 뒤 반영된 쓰기로 달라 보인 유저는 락 안에서 다시 확인해 drift 에서 뺀다.")
+    @Test
+    void ignoreConcurrentWrite() {
+        //given
+        long userId = 3L;
+        when(pointHistoryRepository.selectAll()).thenReturn(List.of(
+                new PointHistory(1L, userId, 1000L, CHARGE, 1L)));
+        when(pointHistoryRepository.selectAllByUserId(userId)).thenReturn(List.of(
+                new PointHistory(1L, userId, 1000L, CHARGE, 1L),
+                new PointHistory(2L, userId, 200L, CHARGE, 2L)));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 1200L, 1L));
+
+        //when
+        ReconciliationReport result = pointReconciliationService.reconcile();
+
+        //then
+        assertThat(result.drifts()).isEmpty();
+    }
+
+    @DisplayName("내역이 하나도 없는데 포인트가 있는 유저도 drift 로 보고한다.")
+    @Test
+    void reconcileUserWithoutHistory() {
+        //given
+        long userId = 4L;
+        long emptyUserId = 5L;
+        when(pointHistoryRepository.selectAll()).thenReturn(List.of());
+        when(userPointRepository.selectAllIds()).thenReturn(List.of(userId, emptyUserId));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 800L, 1L));
+        when(userPointRepository.selectById(emptyUserId)).thenReturn(new UserPoint(emptyUserId, 0L, 1L));
+
+        //when
+        ReconciliationReport result = pointReconciliationService.reconcile();
+
+        //then
+        assertThat(result.checkedUsers()).isEqualTo(2);
+        assertThat(result.drifts()).containsExactly(new PointDrift(userId, 800L, 0L));
+    }
+
+    @DisplayName("많은 유저의 내역을 나눠서 합산해도 합계가 정확하다.")
+    @Test
+    void reconcileManyUsers() {
+        //given
+        int userCount = 1_000;
+        int historiesPerUser = 30;
+        List<PointHistory> histories = new ArrayList<>();
+        long historyId = 1;
+        for (int i = 0; i < historiesPerUser; i++) {
+            for (long userId = 1; userId <= userCount; userId++) {
+                histories.add(new PointHistory(historyId++, userId, 10L, CHARGE, historyId));
+            }
+        }
+        when(pointHistoryRepository.selectAll()).thenReturn(histories);
+        when(userPointRepository.selectById(anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            return new UserPoint(userId, 10L * historiesPerUser, 1L);
+        });
+
+        //when
+        ReconciliationReport result = pointReconciliationService.reconcile();
+
+        //then
+        assertThat(result.totalUsers()).isEqualTo(userCount);
+        assertThat(result.checkedUsers()).isEqualTo(userCount);
+        assertThat(result.drifts()).isEmpty();
+    }
+}
@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point.service;
+
+import com.sun.management.ThreadMXBean;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.common.FanOutHelper;
+import io.hhplus.tdd.point.common.HotKeyDetector;
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.common.PointVersionMap;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 충전/사용 쓰기 경로의 할당량 회귀 테스트
+ * 실제 저장소 구현을 쓰되, 테이블 지연과 할당을 빼기 위해 미리 만든 객체만 돌려주는 가짜 테이블을 아래에 둔다.
+ * 성공한 요청은 반환하는 UserPoint 하나와 테이블 API 의 Long 박싱, 검증에서 실패한 요청은 0 바이트만 할당해야 한다.
+ */
+class PointServiceAllocationTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 10_000;
+    private static final long FIRST_USER_ID = 1_000L;
+    private static final int USERS = 5_000;
+    // UserPointTable.selectById 가 Long 을 받아서 생기는 박싱 하나, 테이블은 바꿀 수 없으므로 예산에 넣는다.
+    private static final long TABLE_BOXING_BYTES = 24;
+    // UserPoint 하나 (header + long 3개) 와 테이블 박싱에, 전체 조회용 내역 로그 chunk 를 나눠 가진 몫의 여유를 둔다.
+    private static final long SUCCESS_BUDGET_BYTES = 48 + TABLE_BOXING_BYTES;
+    // 잔액이 부족한 사용은 포인트를 읽기까지만 하므로 테이블 박싱만 남는다.
+    private static final long USE_FAILURE_BUDGET_BYTES = TABLE_BOXING_BYTES;
+    private static final long FAILURE_BUDGET_BYTES = 0;
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        KnownUserFilter knownUserFilter = new KnownUserFilter(1_000_000, 0.01);
+        // 가짜 테이블에 이미 있는 유저로 보이게 한다.
+        for (int i = 0; i < USERS; i++) {
+            knownUserFilter.add(userId(i));
+        }
+        pointService = new PointService(
+                new UserPointRepositoryImpl(new FakeUserPointTable(), knownUserFilter),
+                new PointHistoryRepositoryImpl(new FakePointHistoryTable(), knownUserFilter),
+                new LockHelper(),
+                new SingleFlightHelper(),
+                new HotKeyDetector(),
+                new ChargeAccumulator(),
+                new PointChangeFeed(),
+                new PointVersionMap(),
+                new FanOutHelper(1, 1_000));
+    }
+
+    @DisplayName("포인트 충전은 반환하는 UserPoint 와 테이블 박싱 외에는 할당하지 않는다.")
+    @Test
+    void chargeAllocation() {
+        //given
+        Operation charge = i -> pointService.charge(userId(i), 100L);
+
+        //when
+        double bytesPerOperation = measure(charge);
+
+        //then
+        assertThat(bytesPerOperation).isLessThanOrEqualTo(SUCCESS_BUDGET_BYTES);
+    }
+
+    @DisplayName("포인트 사용은 반환하는 UserPoint 와 테이블 박싱 외에는 할당하지 않는다.")
+    @Test
+    void useAllocation() {
+        //given
+        Operation use = i -> pointService.use(userId(i), 100L);
+
+        //when
+        double bytesPerOperation = measure(use);
+
+        //then
+        assertThat(bytesPerOperation).isLessThanOrEqualTo(SUCCESS_BUDGET_BYTES);
+    }
+
+    @DisplayName("포인트가 부족해 실패한 사용 요청은 테이블 박싱 외에는 할당하지 않는다.")
+    @Test
+    void useFailureAllocation() {
+        //given
+        Operation useOverPoint = i -> {
+            try {
+                pointService.use(userId(i), Long.MAX_VALUE);
+            } catch (PointException ignored) {
+            }
+        };
+
+        //when
+        double bytesPerOperation = measure(useOverPoint);
+
+        //then
+        assertThat(bytesPerOperation).isLessThanOrEqualTo(USE_FAILURE_BUDGET_BYTES);
+    }
+
+    @DisplayName("0 미만의 포인트로 실패한 충전 요청은 할당하지 않는다.")
+    @Test
+    void chargeFailureAllocation() {
+        //given
+        Operation invalidCharge = i -> {
+            try {
+                pointService.charge(userId(i), -1L);
+            } catch (PointException ignored) {
+            }
+        };
+
+        //when
+        double bytesPerOperation = measure(invalidCharge);
+
+        //then
+        assertThat(bytesPerOperation).isLessThanOrEqualTo(FAILURE_BUDGET_BYTES);
+    }
+
+    // 같은 유저가 hot 으로 판정되지 않도록 여러 유저에 나눠서 요청하고,
+    // 처음 기록되는 유저의 비용은 빼도록 측정 전에 모든 유저를 한 번씩 거치게 한다.
+    private long userId(int i) {
+        return FIRST_USER_ID + (i % USERS);
+    }
+
+    private double measure(Operation operation) {
+        for (int i = 0; i < WARM_UP; i++) {
+            operation.run(i);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run(WARM_UP + i);
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        // getThreadAllocatedBytes 호출 자체의 할당을 빼기 위해 빈 측정값을 뺀다.
+        long baseline = threadMXBean.getThreadAllocatedBytes(threadId);
+        long overhead = threadMXBean.getThreadAllocatedBytes(threadId) - baseline;
+        return (double) (after - before - overhead) / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int i);
+    }
+
+    // 유저마다 포인트가 넉넉한 UserPoint 를 미리 만들어, 조회와 이어지는 쓰기가 요청한 유저 id 로 이뤄지게 한다.
+    private static class FakeUserPointTable extends UserPointTable {
+
+        private final UserPoint[] richUsers = new UserPoint[USERS];
+
+        private FakeUserPointTable() {
+            for (int i = 0; i < USERS; i++) {
+                richUsers[i] = new UserPoint(FIRST_USER_ID + i, Long.MAX_VALUE / 2, 0L);
+            }
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return richUsers[(int) (id - FIRST_USER_ID)];
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            return new UserPoint(id, amount, 0L);
+        }
+    }
+
+    private static class FakePointHistoryTable extends PointHistoryTable {
+
+        private final PointHistory history = new PointHistory(1L, 0L, 0L, CHARGE, 0L);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return history;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return List.of();
+        }
+    }
+}
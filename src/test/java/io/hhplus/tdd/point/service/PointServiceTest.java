@@ -1,7 +1,17 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.common.FanOutHelper;
+import io.hhplus.tdd.point.common.HotKeyDetector;
 import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.common.PointVersionMap;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.domain.PointBatch;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryBatch;
+import io.hhplus.tdd.point.domain.PointRestore;
+import io.hhplus.tdd.point.domain.PointTransfer;
 import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.exception.PointException;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
@@ -13,16 +23,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
 import java.util.function.Supplier;
 
 import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.enums.TransactionType.USE;
 import static io.hhplus.tdd.point.exception.ErrorCode.INVALID_CHARGE_POINT;
 import static io.hhplus.tdd.point.exception.ErrorCode.NOT_ENOUGH_POINT;
+import static io.hhplus.tdd.point.exception.ErrorCode.SAME_USER_TRANSFER;
+import static io.hhplus.tdd.point.exception.ErrorCode.TOO_MANY_USERS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PointServiceTest {
@@ -35,6 +57,24 @@ class PointServiceTest {
     @Mock
     private LockHelper lockHelper;
 
+    @Mock
+    private SingleFlightHelper singleFlightHelper;
+
+    @Spy
+    private HotKeyDetector hotKeyDetector;
+
+    @Spy
+    private ChargeAccumulator chargeAccumulator;
+
+    @Spy
+    private PointChangeFeed pointChangeFeed;
+
+    @Mock
+    private PointVersionMap pointVersionMap;
+
+    @Spy
+    private FanOutHelper fanOutHelper = new FanOutHelper(4, 1_000);
+
     @InjectMocks
     private PointService pointService;
 
@@ -53,6 +93,10 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
 
         when(userPointRepository.selectById(userId)).thenReturn(userPoint);
+        when(singleFlightHelper.execute(eq(userId), Mockito.<Supplier<UserPoint>>any())).thenAnswer(invocation -> {
+            Supplier<UserPoint> supplier = invocation.getArgument(1);
+            return supplier.get();
+        });
 
         // when
         UserPoint result = pointService.getPoint(userId);
@@ -75,9 +119,9 @@ class PointServiceTest {
 
         when(userPointRepository.selectById(userId)).thenReturn(curUserPoint);
         when(userPointRepository.insertOrUpdate(userId, expectedAmount)).thenReturn(updatedUserPoint);
-        when(lockHelper.executeWithLock(eq(userId), Mockito.<Supplier<UserPoint>>any())).thenAnswer(invocation -> {
-            Supplier<UserPoint> supplier = invocation.getArgument(1);
-            return supplier.get();
+        when(lockHelper.executeWithLock(eq(userId), eq(chargeAmount), Mockito.<LockHelper.LockedOperation<UserPoint>>any())).thenAnswer(invocation -> {
+            LockHelper.LockedOperation<UserPoint> operation = invocation.getArgument(2);
+            return operation.execute(userId, chargeAmount);
         });
 
         //when
@@ -87,6 +131,37 @@ class PointServiceTest {
         assertThat(result.point()).isEqualTo(expectedAmount);
     }
 
+    @DisplayName("hot 유저의 누적분을 테이블에 쓰는 동안에도 조회에는 누적된 충전이 한 번만 보인다.")
+    @Test
+    void flushKeepsPendingVisibleWhileWriting() {
+        //given
+        long userId = 3L;
+        UserPoint curUserPoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+        chargeAccumulator.start(curUserPoint);
+        chargeAccumulator.accumulate(userId, 300L);
+        AtomicLong pointWhileWriting = new AtomicLong(-1L);
+
+        when(userPointRepository.selectById(userId)).thenReturn(curUserPoint);
+        when(userPointRepository.insertOrUpdate(userId, 1300L)).thenAnswer(invocation -> {
+            // 테이블에는 반영됐지만 누적분은 아직 빠지지 않은 순간
+            pointWhileWriting.set(pointService.getPoint(userId).point());
+            return new UserPoint(userId, 1300L, System.currentTimeMillis());
+        });
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(1);
+            runnable.run();
+            return null;
+        }).when(lockHelper).executeWithLock(eq(userId), any(Runnable.class));
+
+        //when
+        pointService.flushAccumulatedCharges();
+
+        //then
+        assertThat(pointWhileWriting.get()).isEqualTo(1300L);
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(1300L);
+        assertThat(chargeAccumulator.pending(userId)).isZero();
+    }
+
     @DisplayName("0 미만의 포인트를 충전하려고하면 예외를 반환한다.")
     @Test
     void chargeInvalidPoint() {
@@ -117,9 +192,9 @@ class PointServiceTest {
 
         when(userPointRepository.insertOrUpdate(userId, initAmount - useAmount)).thenReturn(resultUserPoint);
         when(userPointRepository.selectById(userId)).thenReturn(initUserPoint);
-        when(lockHelper.executeWithLock(eq(userId), Mockito.<Supplier<UserPoint>>any())).thenAnswer(invocation -> {
-            Supplier<UserPoint> supplier = invocation.getArgument(1);
-            return supplier.get();
+        when(lockHelper.executeWithLock(eq(userId), eq(useAmount), Mockito.<LockHelper.LockedOperation<UserPoint>>any())).thenAnswer(invocation -> {
+            LockHelper.LockedOperation<UserPoint> operation = invocation.getArgument(2);
+            return operation.execute(userId, useAmount);
         });
 
         //when
@@ -157,9 +232,9 @@ class PointServiceTest {
 
         when(userPointRepository.insertOrUpdate(userId, initAmount - useAmount)).thenReturn(resultUserPoint);
         when(userPointRepository.selectById(userId)).thenReturn(initUserPoint);
-        when(lockHelper.executeWithLock(eq(userId), Mockito.<Supplier<UserPoint>>any())).thenAnswer(invocation -> {
-            Supplier<UserPoint> supplier = invocation.getArgument(1);
-            return supplier.get();
+        when(lockHelper.executeWithLock(eq(userId), eq(useAmount), Mockito.<LockHelper.LockedOperation<UserPoint>>any())).thenAnswer(invocation -> {
+            LockHelper.LockedOperation<UserPoint> operation = invocation.getArgument(2);
+            return operation.execute(userId, useAmount);
         });
 
 
@@ -170,6 +245,97 @@ class PointServiceTest {
                 .isEqualTo(NOT_ENOUGH_POINT);
     }
 
+    @DisplayName("보내는 유저의 포인트를 차감하고 받는 유저의 포인트를 충전한다.")
+    @Test
+    void transfer() {
+        //given
+        long fromId = 8L;
+        long toId = 9L;
+        long amount = 300L;
+
+        when(userPointRepository.selectById(fromId)).thenReturn(new UserPoint(fromId, 1000L, System.currentTimeMillis()));
+        when(userPointRepository.selectById(toId)).thenReturn(new UserPoint(toId, 100L, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(fromId, 700L)).thenReturn(new UserPoint(fromId, 700L, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(toId, 400L)).thenReturn(new UserPoint(toId, 400L, System.currentTimeMillis()));
+        when(lockHelper.executeWithLocks(eq(fromId), eq(toId), Mockito.<Supplier<PointTransfer>>any())).thenAnswer(invocation -> {
+            Supplier<PointTransfer> supplier = invocation.getArgument(2);
+            return supplier.get();
+        });
+
+        //when
+        PointTransfer result = pointService.transfer(fromId, toId, amount);
+
+        //then
+        assertThat(result.from().point()).isEqualTo(700L);
+        assertThat(result.to().point()).isEqualTo(400L);
+        verify(pointHistoryRepository).insert(eq(fromId), eq(amount), eq(USE), Mockito.anyLong());
+        verify(pointHistoryRepository).insert(eq(toId), eq(amount), eq(CHARGE), Mockito.anyLong());
+    }
+
+    @DisplayName("가지고 있는 포인트 이상을 전송하려고 하면 예외를 반환하고 받는 유저의 포인트는 그대로다.")
+    @Test
+    void transferOverPoint() {
+        //given
+        long fromId = 10L;
+        long toId = 11L;
+
+        when(userPointRepository.selectById(fromId)).thenReturn(new UserPoint(fromId, 100L, System.currentTimeMillis()));
+        when(userPointRepository.selectById(toId)).thenReturn(new UserPoint(toId, 0L, System.currentTimeMillis()));
+        when(lockHelper.executeWithLocks(eq(fromId), eq(toId), Mockito.<Supplier<PointTransfer>>any())).thenAnswer(invocation -> {
+            Supplier<PointTransfer> supplier = invocation.getArgument(2);
+            return supplier.get();
+        });
+
+        //when //then
+        assertThatThrownBy(() -> pointService.transfer(fromId, toId, 1000L))
+                .isInstanceOf(PointException.class)
+                .extracting("errorCode")
+                .isEqualTo(NOT_ENOUGH_POINT);
+        verify(userPointRepository, never()).insertOrUpdate(eq(toId), Mockito.anyLong());
+    }
+
+    @DisplayName("자기 자신에게 포인트를 전송하려고 하면 예외를 반환한다.")
+    @Test
+    void transferToSameUser() {
+        //given
+        long userId = 12L;
+
+        //when //then
+        assertThatThrownBy(() -> pointService.transfer(userId, userId, 100L))
+                .isInstanceOf(PointException.class)
+                .extracting("errorCode")
+                .isEqualTo(SAME_USER_TRANSFER);
+    }
+
+    @DisplayName("덤프의 포인트와 내역을 적재하면 내역마다 그 시점의 포인트로 변경 피드와 버전 맵에 반영된다.")
+    @Test
+    void restore() {
+        //given
+        long userId = 13L;
+        long now = System.currentTimeMillis();
+        PointRestore restore = new PointRestore(userId, 700L, List.of(
+                new PointRestore.History(1000L, CHARGE, now - 2),
+                new PointRestore.History(300L, USE, now - 1)));
+
+        when(userPointRepository.insertOrUpdate(userId, 700L)).thenReturn(new UserPoint(userId, 700L, now));
+        when(pointHistoryRepository.insert(userId, 1000L, CHARGE, now - 2)).thenReturn(new PointHistory(1L, userId, 1000L, CHARGE, now - 2));
+        when(pointHistoryRepository.insert(userId, 300L, USE, now - 1)).thenReturn(new PointHistory(2L, userId, 300L, USE, now - 1));
+        when(lockHelper.executeWithLock(eq(userId), Mockito.<Supplier<UserPoint>>any())).thenAnswer(invocation -> {
+            Supplier<UserPoint> supplier = invocation.getArgument(1);
+            return supplier.get();
+        });
+
+        //when
+        UserPoint result = pointService.restore(restore);
+
+        //then
+        assertThat(result.point()).isEqualTo(700L);
+        assertThat(List.of(pointChangeFeed.get(0), pointChangeFeed.get(1)))
+                .extracting(event -> event.history().id(), event -> event.userPoint().point())
+                .containsExactly(tuple(1L, 1000L), tuple(2L, 700L));
+        verify(pointVersionMap, times(2)).update(any(UserPoint.class), any(PointHistory.class));
+    }
+
     @DisplayName("포인트 사용 내역을 조회한다.")
     @Test
     void history() {
@@ -192,4 +358,65 @@ class PointServiceTest {
         //then
         assertThat(result.size()).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @DisplayName("여러 유저의 포인트를 조회할 때 중복된 유저는 한 번만 조회한다.")
+    @Test
+    void getPoints() {
+        //given
+        when(userPointRepository.selectById(Mockito.anyLong())).thenAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            return new UserPoint(id, id * 100, System.currentTimeMillis());
+        });
+        when(singleFlightHelper.execute(Mockito.anyLong(), Mockito.<Supplier<UserPoint>>any())).thenAnswer(invocation -> {
+            Supplier<UserPoint> supplier = invocation.getArgument(1);
+            return supplier.get();
+        });
+
+        //when
+        PointBatch result = pointService.getPoints(List.of(13L, 14L, 13L, 15L));
+
+        //then
+        assertThat(result.points())
+                .extracting("id", "point")
+                .containsExactly(
+                        tuple(13L, 1300L),
+                        tuple(14L, 1400L),
+                        tuple(15L, 1500L));
+        assertThat(result.unresolvedIds()).isEmpty();
+        verify(userPointRepository, times(1)).selectById(13L);
+    }
+
+    @DisplayName("여러 유저의 포인트 내역을 유저별로 나눠서 조회한다.")
+    @Test
+    void getHistories() {
+        //given
+        long userId = 16L;
+        long emptyUserId = 17L;
+        PointHistory history = new PointHistory(1L, userId, 1000L, CHARGE, System.currentTimeMillis());
+        when(pointHistoryRepository.selectAllByUserId(userId)).thenReturn(List.of(history));
+        when(pointHistoryRepository.selectAllByUserId(emptyUserId)).thenReturn(List.of());
+
+        //when
+        PointHistoryBatch result = pointService.getHistories(List.of(userId, emptyUserId, userId));
+
+        //then
+        assertThat(result.histories()).containsOnlyKeys(userId, emptyUserId);
+        assertThat(result.histories().get(userId)).containsExactly(history);
+        assertThat(result.histories().get(emptyUserId)).isEmpty();
+        assertThat(result.unresolvedIds()).isEmpty();
+        verify(pointHistoryRepository, times(1)).selectAllByUserId(userId);
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 유저 수를 넘으면 예외를 반환한다.")
+    @Test
+    void getPointsTooManyUsers() {
+        //given
+        List<Long> ids = LongStream.rangeClosed(1, PointService.MAX_BATCH_USERS + 1).boxed().toList();
+
+        //when //then
+        assertThatThrownBy(() -> pointService.getPoints(ids))
+                .isInstanceOf(PointException.class)
+                .extracting("errorCode")
+                .isEqualTo(TOO_MANY_USERS);
+    }
+}
@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.common.FanOutHelper;
+import io.hhplus.tdd.point.common.HotKeyDetector;
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.common.PointVersionMap;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointRestore;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.enums.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PointWarmUpServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @DisplayName("덤프 파일의 포인트와 최근 내역을 적재하고, 적재하지 않는 오래된 내역은 이월 내역으로 남겨 합계를 포인트와 맞춘다.")
+    @Test
+    void load() throws Exception {
+        //given
+        long now = System.currentTimeMillis();
+        long old = now - TimeUnit.DAYS.toMillis(100);
+        Path dump = tempDir.resolve("points.dump");
+        Files.writeString(dump, String.join("\n",
+                "P,1,1000",
+                "H,1,1500,CHARGE," + now,
+                "H,1,500,USE," + now,
+                "P,2,300",
+                "H,2,300,CHARGE," + old,
+                ""));
+        PointWarmUpService pointWarmUpService = new PointWarmUpService(pointService, dump.toString(), 90);
+
+        //when
+        PointWarmUpService.WarmUpResult result = pointWarmUpService.load(dump);
+
+        //then
+        assertThat(result.users()).isEqualTo(2);
+        assertThat(result.histories()).isEqualTo(3);
+        ArgumentCaptor<PointRestore> captor = ArgumentCaptor.forClass(PointRestore.class);
+        verify(pointService, times(2)).restore(captor.capture());
+        List<PointRestore> restores = captor.getAllValues().stream()
+                .sorted(Comparator.comparingLong(PointRestore::userId))
+                .toList();
+        assertThat(restores.get(0).point()).isEqualTo(1000L);
+        assertThat(restores.get(0).histories())
+                .containsExactly(new PointRestore.History(1500L, CHARGE, now), new PointRestore.History(500L, USE, now));
+        // 보관 기간보다 오래된 충전은 적재하지 않고, 보관 기간 시작 시각의 이월 충전으로 남긴다.
+        assertThat(restores.get(1).point()).isEqualTo(300L);
+        assertThat(restores.get(1).histories())
+                .extracting(PointRestore.History::amount, PointRestore.History::type)
+                .containsExactly(tuple(300L, CHARGE));
+        assertThat(restores.get(1).histories().get(0).updateMillis()).isGreaterThan(old);
+    }
+
+    @DisplayName("여러 유저를 실제 테이블에 적재해도 행을 잃지 않고 내역 id 가 겹치지 않는다.")
+    @Test
+    void loadManyUsersIntoTables() throws Exception {
+        //given
+        int users = 20;
+        long now = System.currentTimeMillis();
+        List<String> lines = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            lines.add("P," + userId + ",100");
+            lines.add("H," + userId + ",100,CHARGE," + now);
+        }
+        Path dump = tempDir.resolve("points.dump");
+        Files.write(dump, lines);
+        KnownUserFilter knownUserFilter = new KnownUserFilter(1_000, 0.01);
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), knownUserFilter);
+        PointHistoryRepositoryImpl pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable(), knownUserFilter);
+        PointService realPointService = new PointService(userPointRepository, pointHistoryRepository, new LockHelper(),
+                new SingleFlightHelper(), new HotKeyDetector(), new ChargeAccumulator(), new PointChangeFeed(),
+                new PointVersionMap(), new FanOutHelper(1, 1_000));
+        PointWarmUpService pointWarmUpService = new PointWarmUpService(realPointService, dump.toString(), 90);
+
+        //when
+        PointWarmUpService.WarmUpResult result = pointWarmUpService.load(dump);
+
+        //then
+        assertThat(result.users()).isEqualTo(users);
+        assertThat(result.histories()).isEqualTo(users);
+        assertThat(pointHistoryRepository.selectAll()).extracting(PointHistory::id)
+                .hasSize(users)
+                .doesNotHaveDuplicates();
+        assertThat(userPointRepository.selectAllIds()).hasSize(users);
+        for (long userId = 1; userId <= users; userId++) {
+            assertThat(userPointRepository.selectById(userId).point()).isEqualTo(100L);
+            assertThat(pointHistoryRepository.selectAllByUserId(userId)).hasSize(1);
+        }
+    }
+
+    @DisplayName("덤프 파일이 설정되지 않으면 아무것도 적재하지 않는다.")
+    @Test
+    void skipWithoutDumpFile() throws Exception {
+        //given
+        PointWarmUpService pointWarmUpService = new PointWarmUpService(pointService, "", 90);
+
+        //when
+        pointWarmUpService.run(null);
+
+        //then
+        assertThat(pointWarmUpService.getLastResult()).isNull();
+        verify(pointService, never()).restore(any());
+    }
+}
@@ -0,0 +1,24 @@
+plugins {
+    java
+    application
+}
+
+evaluationDependsOn(":")
+
+// the root project only produces a bootJar, so stress the app classes straight from its main source set
+val appMain = project(":").the<SourceSetContainer>()["main"]
+
+dependencies {
+    implementation(files(appMain.runtimeClasspath))
+    implementation(libs.jcstress)
+    annotationProcessor(libs.jcstress)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+}
+
+// ./gradlew :stress-test:run --args="-m quick"   (-t <regex> to run a subset, -m stress for longer runs)
+application {
+    mainClass.set("org.openjdk.jcstress.Main")
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.KnownUserFilter;
+import io.hhplus.tdd.point.repository.ConcurrentPointHistoryRepository;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Description("ConcurrentPointHistoryRepository 에 서로 다른 유저의 내역을 동시에 쌓아도 id 가 겹치지 않고 모두 보인다.")
+@Outcome(id = {"1, 2, 2", "2, 1, 2"}, expect = ACCEPTABLE, desc = "서로 다른 id 로 두 내역이 모두 남음")
+@Outcome(expect = FORBIDDEN, desc = "id 가 겹치거나 내역이 유실됨")
+@State
+public class ConcurrentHistoryCursorTest {
+
+    private final ConcurrentPointHistoryRepository repository =
+            new ConcurrentPointHistoryRepository(new KnownUserFilter(16, 0.01));
+
+    @Actor
+    public void actor1(JJJ_Result result) {
+        result.r1 = repository.insert(1L, 100L, CHARGE, 0L).id();
+    }
+
+    @Actor
+    public void actor2(JJJ_Result result) {
+        result.r2 = repository.insert(2L, 100L, CHARGE, 0L).id();
+    }
+
+    @Arbiter
+    public void arbiter(JJJ_Result result) {
+        result.r3 = repository.selectAll().size();
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * hot 유저의 충전은 락 없이 누적되고, 사용은 락 안에서 누적분을 먼저 반영한다.
+ * 누적과 반영(settle)이 겹쳐도 충전이 유실되거나 두 번 반영되면 안 된다.
+ */
+@JCStressTest
+@Description("hot 유저의 락 없는 충전과 사용이 겹쳐도 충전이 유실되지 않는다.")
+@Outcome(id = "1, 50", expect = ACCEPTABLE, desc = "사용이 누적된 충전까지 반영한 뒤 성공")
+@Outcome(id = "0, 200", expect = ACCEPTABLE, desc = "사용이 충전보다 먼저 잔액을 보고 실패, 충전은 flush 로 반영")
+@Outcome(id = {"1, -50", "0, 100"}, expect = FORBIDDEN, desc = "누적된 충전이 유실됨")
+@Outcome(id = {"1, 150", "0, 300"}, expect = FORBIDDEN, desc = "누적된 충전이 두 번 반영됨")
+@Outcome(expect = FORBIDDEN, desc = "그 밖의 결과")
+@State
+public class HotUserChargeUseTest {
+
+    // HotKeyDetector 의 hot 기준(64)을 넘겨서, 중간에 decay 가 한 번 일어나도 hot 으로 남게 한다.
+    private static final int WARM_UP_REQUESTS = 256;
+
+    private final InMemoryUserPointRepository userPointRepository = new InMemoryUserPointRepository();
+    private final PointService pointService =
+            PointServiceFixture.pointService(userPointRepository, new InMemoryPointHistoryRepository(), new ChargeAccumulator());
+    private final long userId = PointServiceFixture.nextUserId();
+
+    public HotUserChargeUseTest() {
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            PointServiceFixture.HOT_KEY_DETECTOR.recordAndCheck(userId);
+        }
+        // hot 유저의 첫 충전은 락 안에서 반영되고, 이후 충전부터 누적된다.
+        pointService.charge(userId, 100L);
+    }
+
+    @Actor
+    public void charge() {
+        pointService.charge(userId, 100L);
+    }
+
+    @Actor
+    public void use(JJ_Result result) {
+        try {
+            pointService.use(userId, 150L);
+            result.r1 = 1L;
+        } catch (PointException e) {
+            result.r1 = 0L;
+        }
+    }
+
+    @Arbiter
+    public void arbiter(JJ_Result result) {
+        pointService.flushAccumulatedCharges();
+        result.r2 = userPointRepository.point(userId);
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.enums.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PointHistoryTable 과 같이 동기화 없는 cursor 와 ArrayList 에 저장하되 throttle 만 뺀 저장소
+ */
+class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private long cursor = 1;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+        table.add(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+
+    @Override
+    public List<PointHistory> selectAll() {
+        return new ArrayList<>(table);
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserPointTable 과 같이 동기화 없는 HashMap 에 저장하되 throttle 만 뺀 저장소
+ * 저장소가 스스로 막아주는 것이 없으므로, PointService/LockHelper 의 락이 빠지면 그대로 결과에 드러난다.
+ */
+class InMemoryUserPointRepository implements UserPointRepository {
+
+    private final Map<Long, UserPoint> table = new HashMap<>();
+
+    @Override
+    public UserPoint selectById(long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public List<Long> selectAllIds() {
+        return new ArrayList<>(table.keySet());
+    }
+
+    long point(long id) {
+        return selectById(id).point();
+    }
+}
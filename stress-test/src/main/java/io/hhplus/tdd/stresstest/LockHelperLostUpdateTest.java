@@ -0,0 +1,48 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.LockHelper;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.J_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Description("같은 유저 락 안에서 하는 읽고-더하고-쓰기는 유실되지 않는다.")
+@Outcome(id = "2", expect = ACCEPTABLE, desc = "두 증가가 모두 반영됨")
+@Outcome(id = "1", expect = FORBIDDEN, desc = "lost update: 두 스레드가 같은 락을 동시에 잡았다")
+@State
+public class LockHelperLostUpdateTest {
+
+    private final LockHelper lockHelper = PointServiceFixture.LOCK_HELPER;
+    private final long userId = PointServiceFixture.nextUserId();
+    private long value;
+
+    @Actor
+    public void actor1() {
+        lockHelper.executeWithLock(userId, this::increment);
+    }
+
+    @Actor
+    public void actor2() {
+        // 다른 오버로드로 같은 유저 락을 잡아도 서로 배제되어야 한다.
+        lockHelper.executeWithLock(userId, 1L, (id, amount) -> {
+            value += amount;
+            return null;
+        });
+    }
+
+    @Arbiter
+    public void arbiter(J_Result result) {
+        result.r1 = value;
+    }
+
+    private void increment() {
+        value++;
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Description("같은 유저에게 동시에 충전해도 잔액과 내역이 모두 남는다.")
+@Outcome(id = "200, 2", expect = ACCEPTABLE, desc = "두 충전이 모두 반영됨")
+@Outcome(id = "100, 2", expect = FORBIDDEN, desc = "lost update: 내역은 둘인데 잔액은 한 번만 충전됨")
+@Outcome(expect = FORBIDDEN, desc = "그 밖의 결과")
+@State
+public class PointChargeLostUpdateTest {
+
+    private static final long AMOUNT = 100L;
+
+    private final InMemoryUserPointRepository userPointRepository = new InMemoryUserPointRepository();
+    private final InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+    private final PointService pointService =
+            PointServiceFixture.pointService(userPointRepository, pointHistoryRepository, new ChargeAccumulator());
+    private final long userId = PointServiceFixture.nextUserId();
+
+    @Actor
+    public void actor1() {
+        pointService.charge(userId, AMOUNT);
+    }
+
+    @Actor
+    public void actor2() {
+        pointService.charge(userId, AMOUNT);
+    }
+
+    @Arbiter
+    public void arbiter(JJ_Result result) {
+        result.r1 = userPointRepository.point(userId);
+        result.r2 = pointHistoryRepository.selectAllByUserId(userId).size();
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Description("잔액만큼의 사용 요청이 동시에 두 번 들어오면 정확히 하나만 성공한다.")
+@Outcome(id = {"1, 0, 0", "0, 1, 0"}, expect = ACCEPTABLE, desc = "하나만 성공하고 잔액은 0")
+@Outcome(id = {"1, 1, 0", "1, 1, -100"}, expect = FORBIDDEN, desc = "double spend: 잔액보다 많이 사용됨")
+@Outcome(id = "0, 0, 100", expect = FORBIDDEN, desc = "잔액이 있는데 둘 다 실패함")
+@Outcome(expect = FORBIDDEN, desc = "그 밖의 결과")
+@State
+public class PointDoubleSpendTest {
+
+    private static final long BALANCE = 100L;
+
+    private final InMemoryUserPointRepository userPointRepository = new InMemoryUserPointRepository();
+    private final PointService pointService =
+            PointServiceFixture.pointService(userPointRepository, new InMemoryPointHistoryRepository(), new ChargeAccumulator());
+    private final long userId = PointServiceFixture.nextUserId();
+
+    public PointDoubleSpendTest() {
+        userPointRepository.insertOrUpdate(userId, BALANCE);
+    }
+
+    @Actor
+    public void actor1(JJJ_Result result) {
+        result.r1 = use();
+    }
+
+    @Actor
+    public void actor2(JJJ_Result result) {
+        result.r2 = use();
+    }
+
+    @Arbiter
+    public void arbiter(JJJ_Result result) {
+        result.r3 = userPointRepository.point(userId);
+    }
+
+    private long use() {
+        try {
+            pointService.use(userId, BALANCE);
+            return 1L;
+        } catch (PointException e) {
+            return 0L;
+        }
+    }
+}
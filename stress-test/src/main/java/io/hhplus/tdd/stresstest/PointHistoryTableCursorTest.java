@@ -0,0 +1,59 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+
+import static io.hhplus.tdd.point.enums.TransactionType.CHARGE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+
+/**
+ * PointHistoryTable 은 cursor++ 와 ArrayList.add 를 동기화 없이 한다. (테이블은 바꿀 수 없다)
+ * 유저 락은 같은 유저끼리만 배제하므로, 서로 다른 유저의 내역을 동시에 쌓으면 이 race 가 그대로 드러난다.
+ * 기본 저장소(point.history.storage=table)가 갖는 위험을 기록해두는 테스트로, 결과는 INTERESTING 으로만 표시한다.
+ * 같은 조건에서 race 가 없어야 하는 저장소는 ConcurrentHistoryCursorTest 에서 확인한다.
+ */
+@JCStressTest
+@Description("PointHistoryTable 에 서로 다른 유저의 내역을 동시에 쌓으면 id 가 겹치거나 내역이 유실될 수 있다.")
+@Outcome(id = {"1, 2, 2", "2, 1, 2"}, expect = ACCEPTABLE, desc = "서로 다른 id 로 두 내역이 모두 남음")
+@Outcome(id = "1, 1, 2", expect = ACCEPTABLE_INTERESTING, desc = "cursor race: 두 내역이 같은 id 를 받음")
+@Outcome(expect = ACCEPTABLE_INTERESTING, desc = "ArrayList race: 내역이 유실되거나 insert 가 실패함")
+@State
+public class PointHistoryTableCursorTest {
+
+    private final PointHistoryTable table = new PointHistoryTable();
+
+    @Actor
+    public void actor1(JJJ_Result result) {
+        result.r1 = insert(1L);
+    }
+
+    @Actor
+    public void actor2(JJJ_Result result) {
+        result.r2 = insert(2L);
+    }
+
+    @Arbiter
+    public void arbiter(JJJ_Result result) {
+        result.r3 = table.selectAllByUserId(1L).size() + table.selectAllByUserId(2L).size();
+    }
+
+    // 테이블의 throttle 은 interrupt 된 스레드에서는 바로 돌아오므로, 매번 interrupt 를 걸어 지연 없이 호출한다.
+    private long insert(long userId) {
+        Thread.currentThread().interrupt();
+        try {
+            return table.insert(userId, 100L, CHARGE, 0L).id();
+        } catch (RuntimeException e) {
+            return -1L;
+        } finally {
+            // 지연이 0 으로 뽑히면 sleep 을 하지 않아 interrupt 가 남으므로 지운다.
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.common.FanOutHelper;
+import io.hhplus.tdd.point.common.HotKeyDetector;
+import io.hhplus.tdd.point.common.LockHelper;
+import io.hhplus.tdd.point.common.PointChangeFeed;
+import io.hhplus.tdd.point.common.PointVersionMap;
+import io.hhplus.tdd.point.common.SingleFlightHelper;
+import io.hhplus.tdd.point.service.PointService;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * jcstress 는 상태(state) 객체를 매우 많이 만들므로, 큰 배열을 가진 헬퍼는 상태마다 만들지 않고 공유한다.
+ * 대신 상태마다 처음 쓰는 유저 id 를 받아, 다른 상태의 유저와 결과가 섞이지 않게 한다.
+ * 저장소와 누적 저장소처럼 유저 결과를 담는 것은 상태마다 새로 만든다.
+ */
+final class PointServiceFixture {
+
+    static final LockHelper LOCK_HELPER = new LockHelper();
+    static final HotKeyDetector HOT_KEY_DETECTOR = new HotKeyDetector();
+
+    private static final SingleFlightHelper SINGLE_FLIGHT_HELPER = new SingleFlightHelper();
+    private static final PointChangeFeed POINT_CHANGE_FEED = new PointChangeFeed();
+    private static final PointVersionMap POINT_VERSION_MAP = new PointVersionMap();
+    private static final FanOutHelper FAN_OUT_HELPER = new FanOutHelper(1, 1_000);
+    private static final AtomicLong USER_ID_SEQUENCE = new AtomicLong();
+
+    private PointServiceFixture() {
+    }
+
+    static long nextUserId() {
+        return USER_ID_SEQUENCE.incrementAndGet();
+    }
+
+    static PointService pointService(InMemoryUserPointRepository userPointRepository,
+                                     InMemoryPointHistoryRepository pointHistoryRepository,
+                                     ChargeAccumulator chargeAccumulator) {
+        return new PointService(
+                userPointRepository,
+                pointHistoryRepository,
+                LOCK_HELPER,
+                SINGLE_FLIGHT_HELPER,
+                HOT_KEY_DETECTOR,
+                chargeAccumulator,
+                POINT_CHANGE_FEED,
+                POINT_VERSION_MAP,
+                FAN_OUT_HELPER);
+    }
+}
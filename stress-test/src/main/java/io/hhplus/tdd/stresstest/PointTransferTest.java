@@ -0,0 +1,61 @@
+package io.hhplus.tdd.stresstest;
+
+import io.hhplus.tdd.point.common.ChargeAccumulator;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 서로 반대 방향의 전송과, 받는 쪽 유저의 충전이 동시에 들어오는 경우
+ * 두 유저 락을 잡는 순서가 어긋나면 데드락으로 멈추고 (jcstress 가 멈춘 테스트로 보고한다),
+ * 한 유저 락만 잡는 충전과 배제되지 않으면 충전이나 전송 금액이 유실된다.
+ */
+@JCStressTest
+@Description("반대 방향 전송과 충전이 겹쳐도 멈추지 않고, 전체 포인트가 보존된다.")
+@Outcome(id = "100, 150", expect = ACCEPTABLE, desc = "두 전송과 충전이 모두 반영됨")
+@Outcome(expect = FORBIDDEN, desc = "lost update: 전송 또는 충전이 유실됨")
+@State
+public class PointTransferTest {
+
+    private static final long BALANCE = 100L;
+
+    private final InMemoryUserPointRepository userPointRepository = new InMemoryUserPointRepository();
+    private final PointService pointService =
+            PointServiceFixture.pointService(userPointRepository, new InMemoryPointHistoryRepository(), new ChargeAccumulator());
+    private final long userA = PointServiceFixture.nextUserId();
+    private final long userB = PointServiceFixture.nextUserId();
+
+    public PointTransferTest() {
+        userPointRepository.insertOrUpdate(userA, BALANCE);
+        userPointRepository.insertOrUpdate(userB, BALANCE);
+    }
+
+    @Actor
+    public void transferAToB() {
+        pointService.transfer(userA, userB, BALANCE);
+    }
+
+    @Actor
+    public void transferBToA() {
+        pointService.transfer(userB, userA, BALANCE);
+    }
+
+    @Actor
+    public void chargeB() {
+        pointService.charge(userB, 50L);
+    }
+
+    @Arbiter
+    public void arbiter(JJ_Result result) {
+        result.r1 = userPointRepository.point(userA);
+        result.r2 = userPointRepository.point(userB);
+    }
+}